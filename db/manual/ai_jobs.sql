@@ -0,0 +1,24 @@
+-- =============================================
+-- ai_jobs: AI 서버 작업 큐 (outbox)
+-- 운영(prod)은 ddl-auto=validate → 배포 전에 수동 적용 필요 (MariaDB)
+-- =============================================
+CREATE TABLE ai_jobs (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    type         ENUM ('QUIZ_GENERATE','SUMMARIZE_CHAPTER','SUMMARIZE_FULL','VECTORIZE') NOT NULL,
+    content_id   BIGINT       NOT NULL,
+    payload      TEXT,
+    status       ENUM ('DEAD','PENDING','RUNNING','SUCCEEDED') NOT NULL,
+    attempts     INTEGER      NOT NULL,
+    max_attempts INTEGER      NOT NULL,
+    next_run_at  DATETIME(6)  NOT NULL,
+    locked_by    VARCHAR(100),
+    locked_at    DATETIME(6),
+    last_error   TEXT,
+    result       TEXT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 워커 점유 쿼리 (status = PENDING AND next_run_at <= now ORDER BY next_run_at)
+CREATE INDEX idx_ai_jobs_status_next_run ON ai_jobs (status, next_run_at);
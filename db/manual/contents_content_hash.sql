@@ -0,0 +1,7 @@
+-- =============================================
+-- contents.content_hash (동일 PDF 중복 업로드 감지)
+-- 운영(prod)은 ddl-auto=validate → 배포 전에 수동 적용 필요 (MariaDB)
+-- =============================================
+ALTER TABLE contents ADD COLUMN content_hash VARCHAR(64) NULL;
+
+CREATE INDEX idx_contents_content_hash ON contents (content_hash);
@@ -0,0 +1,16 @@
+-- =============================================
+-- summaries (content_id, chapter) 유니크 제약
+-- 운영(prod)은 ddl-auto=validate → 배포 전에 수동 적용 필요 (MariaDB)
+-- =============================================
+
+-- 1) 제약 추가 전에 기존 중복 행 정리 (가장 오래된 행만 유지)
+DELETE s
+FROM summaries s
+JOIN summaries k
+  ON k.content_id = s.content_id
+ AND k.chapter = s.chapter
+ AND k.id < s.id;
+
+-- 2) 유니크 제약
+ALTER TABLE summaries
+    ADD CONSTRAINT uk_summaries_content_chapter UNIQUE (content_id, chapter);
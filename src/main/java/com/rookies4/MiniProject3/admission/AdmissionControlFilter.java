@@ -0,0 +1,107 @@
+package com.rookies4.MiniProject3.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.exception.ErrorResponse;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * AI 작업 엔드포인트 입장 제어 (Spring Security 체인 뒤에서 실행 → 인증 사용자 기준)
+ * - 상한 초과 시 컨트롤러에 도달하기 전에 429 + Retry-After
+ * - 비동기 요청은 응답 완료(AsyncListener) 시점에 허가 반환
+ * - ?async=true (작업 큐 등록)는 AI 서버를 기다리지 않으므로 제외 — 이를 지원하는 작업(요약/퀴즈 생성)에 한함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionLimiter admissionLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.admission.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        AdmissionOperation op = AdmissionOperation.resolve(request);
+        return op == null
+                || (op.isSupportsAsync() && "true".equalsIgnoreCase(request.getParameter("async")));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdmissionOperation op = AdmissionOperation.resolve(request);
+        String userKey = resolveUserKey(request);
+
+        AdmissionLimiter.Permit permit = admissionLimiter.tryAcquire(op, userKey);
+
+        if (permit == null) {
+            log.warn("🚦 요청 거절 (동시 처리 상한) | op={} | user={} | uri={}", op, userKey, request.getRequestURI());
+            reject(response, admissionLimiter.retryAfterSeconds(op));
+            return;
+        }
+
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permit));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permit.release();
+            }
+        }
+    }
+
+    private String resolveUserKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getName() != null) {
+            return auth.getName();
+        }
+        return "anonymous:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, int retryAfterSeconds) throws IOException {
+        ErrorCode code = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(code.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.of(code));
+    }
+
+    // ============================================
+    // ✅ 비동기 응답 완료/오류/타임아웃 시 허가 반환
+    // ============================================
+    private record ReleaseOnComplete(AdmissionLimiter.Permit permit) implements AsyncListener {
+        @Override public void onComplete(AsyncEvent event) { permit.release(); }
+        @Override public void onTimeout(AsyncEvent event) { permit.release(); }
+        @Override public void onError(AsyncEvent event) { permit.release(); }
+        @Override public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
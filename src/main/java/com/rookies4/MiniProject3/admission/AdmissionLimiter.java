@@ -0,0 +1,169 @@
+package com.rookies4.MiniProject3.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업별 전역/사용자별 동시 실행 상한
+ * - 사용자 상한 초과 → 즉시 거절
+ * - 전역 상한 초과 → queue-capacity 만큼만 max-wait 동안 대기, 그 외 즉시 거절
+ * - 메트릭: ai.admission.inflight / ai.admission.queue (gauge), ai.admission.rejected (counter)
+ */
+@Slf4j
+@Component
+public class AdmissionLimiter {
+
+    private final Map<AdmissionOperation, Limits> limits = new EnumMap<>(AdmissionOperation.class);
+    private final long maxWaitNanos;
+
+    public AdmissionLimiter(Environment env,
+                            MeterRegistry meterRegistry,
+                            @Value("${ai.admission.max-wait:PT0.2S}") Duration maxWait) {
+        this.maxWaitNanos = maxWait.toNanos();
+
+        for (AdmissionOperation op : AdmissionOperation.values()) {
+            String prefix = "ai.admission." + op.getKey() + ".";
+            int maxConcurrent = env.getProperty(prefix + "max-concurrent", Integer.class, op.getDefaultMaxConcurrent());
+            int maxPerUser = env.getProperty(prefix + "max-per-user", Integer.class, op.getDefaultMaxPerUser());
+            int queueCapacity = env.getProperty(prefix + "queue-capacity", Integer.class, maxConcurrent);
+            int retryAfter = env.getProperty(prefix + "retry-after", Integer.class, op.getDefaultRetryAfterSeconds());
+
+            Limits l = new Limits(op, maxConcurrent, maxPerUser, queueCapacity, retryAfter, meterRegistry);
+            limits.put(op, l);
+            log.info("🚦 Admission 설정 | op={} | maxConcurrent={} | maxPerUser={} | queue={} | retryAfter={}s",
+                    op, maxConcurrent, maxPerUser, queueCapacity, retryAfter);
+        }
+    }
+
+    /**
+     * 허가 획득 시도
+     * @return 허가 (거절이면 null) — 사용 후 반드시 {@link Permit#release()}
+     */
+    public Permit tryAcquire(AdmissionOperation op, String userKey) {
+        Limits l = limits.get(op);
+
+        // 1) 사용자별 상한 (한 사용자가 전역 슬롯을 독점하지 못하게)
+        if (!l.acquireUser(userKey)) {
+            l.rejectedUser.increment();
+            return null;
+        }
+
+        // 2) 전역 상한 (짧게 대기 가능한 큐 포함)
+        boolean acquired = l.global.tryAcquire();
+        if (!acquired && maxWaitNanos > 0) {
+            try {
+                if (l.waiting.incrementAndGet() <= l.queueCapacity) {
+                    acquired = l.global.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                l.waiting.decrementAndGet();
+            }
+        }
+
+        if (!acquired) {
+            l.releaseUser(userKey);
+            l.rejectedGlobal.increment();
+            return null;
+        }
+        return new Permit(l, userKey);
+    }
+
+    public int retryAfterSeconds(AdmissionOperation op) {
+        return limits.get(op).retryAfterSeconds;
+    }
+
+    // ============================================
+    // ✅ 허가 (중복 release 방지)
+    // ============================================
+    public static final class Permit {
+        private final Limits limits;
+        private final String userKey;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(Limits limits, String userKey) {
+            this.limits = limits;
+            this.userKey = userKey;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                limits.global.release();
+                limits.releaseUser(userKey);
+            }
+        }
+    }
+
+    // ============================================
+    // ✅ 작업별 상한/상태
+    // ============================================
+    private static final class Limits {
+        private final int maxConcurrent;
+        private final int maxPerUser;
+        private final int queueCapacity;
+        private final int retryAfterSeconds;
+        private final Semaphore global;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final ConcurrentHashMap<String, AtomicInteger> perUser = new ConcurrentHashMap<>();
+        private final Counter rejectedGlobal;
+        private final Counter rejectedUser;
+
+        private Limits(AdmissionOperation op, int maxConcurrent, int maxPerUser, int queueCapacity,
+                       int retryAfterSeconds, MeterRegistry registry) {
+            this.maxConcurrent = Math.max(1, maxConcurrent);
+            this.maxPerUser = Math.max(1, maxPerUser);
+            this.queueCapacity = Math.max(0, queueCapacity);
+            this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+            this.global = new Semaphore(this.maxConcurrent);
+
+            String operation = op.getKey();
+            Gauge.builder("ai.admission.inflight", global, s -> this.maxConcurrent - s.availablePermits())
+                    .tag("operation", operation)
+                    .description("허가를 받아 실행 중인 요청 수")
+                    .register(registry);
+            Gauge.builder("ai.admission.queue", waiting, AtomicInteger::get)
+                    .tag("operation", operation)
+                    .description("전역 슬롯을 기다리는 요청 수")
+                    .register(registry);
+            this.rejectedGlobal = Counter.builder("ai.admission.rejected")
+                    .tag("operation", operation).tag("scope", "global")
+                    .register(registry);
+            this.rejectedUser = Counter.builder("ai.admission.rejected")
+                    .tag("operation", operation).tag("scope", "user")
+                    .register(registry);
+        }
+
+        private boolean acquireUser(String userKey) {
+            AtomicBoolean ok = new AtomicBoolean(false);
+            perUser.compute(userKey, (k, count) -> {
+                if (count == null) count = new AtomicInteger();
+                if (count.get() < maxPerUser) {
+                    count.incrementAndGet();
+                    ok.set(true);
+                }
+                return count.get() == 0 ? null : count;
+            });
+            return ok.get();
+        }
+
+        private void releaseUser(String userKey) {
+            // 0이 되면 엔트리 제거 → 사용자 수만큼 맵이 커지지 않음
+            perUser.computeIfPresent(userKey, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
+        }
+    }
+}
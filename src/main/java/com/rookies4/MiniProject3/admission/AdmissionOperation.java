@@ -0,0 +1,52 @@
+package com.rookies4.MiniProject3.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * AI 서버로 요청이 나가는(=서블릿 스레드를 오래 점유하는) 작업 분류
+ * - 설정 키: ai.admission.{key}.max-concurrent / max-per-user / queue-capacity / retry-after
+ * - supportsAsync: ?async=true 를 실제로 처리하는 작업만 true (그 외에는 파라미터가 있어도 제한 대상)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AdmissionOperation {
+
+    ASK("ask", 20, 2, 2, false,
+            List.of("POST /api/contents/*/ask", "POST /api/contents/*/ask/stream")),
+    SUMMARIZE("summarize", 8, 1, 10, true,
+            List.of("POST /api/contents/*/summarize", "POST /api/contents/*/summaries")),
+    QUIZ_GENERATE("quiz-generate", 8, 1, 10, true,
+            List.of("POST /api/contents/*/quiz/generate")),
+    UPLOAD("upload", 16, 3, 5, false,
+            List.of("POST /api/contents/upload", "PUT /api/contents/uploads/*", "POST /api/contents/uploads/*/commit"));
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String key;
+    private final int defaultMaxConcurrent;
+    private final int defaultMaxPerUser;
+    private final int defaultRetryAfterSeconds;
+    private final boolean supportsAsync;   // ?async=true 로 작업 큐 등록만 하는 엔드포인트인지
+    private final List<String> patterns;   // "METHOD /path/pattern"
+
+    /** 요청에 해당하는 작업 분류 (대상이 아니면 null) */
+    public static AdmissionOperation resolve(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (AdmissionOperation op : values()) {
+            for (String pattern : op.patterns) {
+                int sep = pattern.indexOf(' ');
+                if (pattern.regionMatches(0, method, 0, sep) && sep == method.length()
+                        && PATH_MATCHER.match(pattern.substring(sep + 1), path)) {
+                    return op;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.rookies4.MiniProject3.config;
+
+import com.rookies4.MiniProject3.service.AiPayloadLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * aipayloadlog (운영자 전용: JMX로만 노출, 웹 노출 금지 — SecurityConfig에서 /actuator/aipayloadlog 차단)
+ * - 모든 학생의 질문/답변 로깅을 켤 수 있으므로 일반 로그인 사용자에게 열지 않음
+ * - read : 현재 샘플링 비율 / 최대 바이트
+ * - write: endpoint="ask", sampleRate=0.5 또는 maxBytes=4096 (최대 64KB로 제한)
+ *         (endpoint 생략 또는 "default" → 기본 비율 변경)
+ */
+@Component
+@Endpoint(id = "aipayloadlog")
+@RequiredArgsConstructor
+public class AiPayloadLogEndpoint {
+
+    private final AiPayloadLogger payloadLogger;
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        return payloadLogger.settings();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable String endpoint,
+                                      @Nullable Double sampleRate,
+                                      @Nullable Integer maxBytes) {
+        if (sampleRate != null) payloadLogger.setSampleRate(endpoint, sampleRate);
+        if (maxBytes != null) payloadLogger.setMaxBytes(maxBytes);
+        return payloadLogger.settings();
+    }
+}
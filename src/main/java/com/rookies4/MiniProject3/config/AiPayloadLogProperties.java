@@ -0,0 +1,28 @@
+package com.rookies4.MiniProject3.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI 호출 페이로드 로깅 (ai.payload-log.*)
+ * - 엔드포인트별 샘플링 비율(0.0~1.0), 페이로드 최대 바이트
+ * - 샘플링 비율은 aipayloadlog 엔드포인트(JMX, 운영자 전용)로 런타임 변경 가능
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.payload-log")
+public class AiPayloadLogProperties {
+
+    /** 로그에 남길 페이로드 최대 바이트 (초과분은 잘라냄, 상한 64KB) */
+    private int maxBytes = 2048;
+
+    /** 엔드포인트별 설정이 없을 때 샘플링 비율 */
+    private double defaultSampleRate = 0.01;
+
+    /** 엔드포인트별 샘플링 비율 (upload, summarize, ask, quiz, grade, llm) */
+    private Map<String, Double> sampleRates = new HashMap<>();
+}
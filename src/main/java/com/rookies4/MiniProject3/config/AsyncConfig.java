@@ -0,0 +1,50 @@
+package com.rookies4.MiniProject3.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${ai.job.pool-size:4}")
+    private int aiJobPoolSize;
+
+    @Value("${content.upload.max-concurrent:8}")
+    private int uploadMaxConcurrent;
+
+    @Value("${content.upload.queue-capacity:100}")
+    private int uploadQueueCapacity;
+
+    // ✅ AI 작업 큐(벡터화/요약/퀴즈 생성) 워커 풀 — 풀 크기 = AI 서버로 나가는 최대 동시 작업 수
+    //    워커가 빈 슬롯만큼만 작업을 점유하므로 별도 대기 큐는 두지 않음
+    @Bean(name = "aiJobExecutor")
+    public ThreadPoolTaskExecutor aiJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aiJobPoolSize);
+        executor.setMaxPoolSize(aiJobPoolSize);
+        executor.setQueueCapacity(aiJobPoolSize);
+        executor.setThreadNamePrefix("ai-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // ✅ 다중 파일 업로드(저장 + Content/Progress 생성)를 병렬 처리하는 풀 — 전체 동시 처리량 상한
+    @Bean(name = "uploadExecutor")
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadMaxConcurrent);
+        executor.setMaxPoolSize(uploadMaxConcurrent);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,64 @@
+package com.rookies4.MiniProject3.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * FastAPI(AI 서버) HTTP 클라이언트 프로파일 (python.server.*)
+ * - 커넥션 풀 크기/대기열, keep-alive 및 유휴 커넥션 정리, 작업별 응답 타임아웃, h2c
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "python.server")
+public class PythonServerProperties {
+
+    /** FastAPI 기본 URL */
+    private String url = "http://ai:8000";
+
+    /** TCP 연결 타임아웃 */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /** TCP keep-alive */
+    private boolean keepAlive = true;
+
+    /** HTTP/2 cleartext(h2c) 멀티플렉싱 사용 (FastAPI 쪽이 h2c를 지원할 때만) */
+    private boolean h2c = false;
+
+    private final Pool pool = new Pool();
+    private final Timeouts timeouts = new Timeouts();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        /** 최대 커넥션 수 */
+        private int maxConnections = 50;
+        /** 커넥션을 기다릴 수 있는 요청 수 (초과 시 즉시 실패) */
+        private int pendingAcquireMaxCount = 100;
+        /** 커넥션 대기 최대 시간 */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        /** 유휴 커넥션 유지 시간 (FastAPI/uvicorn keep-alive 보다 짧게) */
+        private Duration maxIdleTime = Duration.ofSeconds(4);
+        /** 커넥션 최대 수명 */
+        private Duration maxLifeTime = Duration.ofMinutes(10);
+        /** 백그라운드 유휴 커넥션 정리 주기 */
+        private Duration evictInBackground = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Timeouts {
+        /** PDF 업로드 + 벡터화 */
+        private Duration upload = Duration.ofMinutes(5);
+        /** 전체/단원별 요약 */
+        private Duration summarize = Duration.ofMinutes(3);
+        /** 질의응답 */
+        private Duration ask = Duration.ofSeconds(60);
+        /** 퀴즈 생성/채점 */
+        private Duration quiz = Duration.ofMinutes(3);
+        /** 그 외 (LLM 보강 등) */
+        private Duration defaultTimeout = Duration.ofSeconds(60);
+    }
+}
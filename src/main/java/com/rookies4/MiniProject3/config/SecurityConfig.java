@@ -77,6 +77,9 @@ public class SecurityConfig {
                         // Preflight 허용
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // 운영자 전용 actuator 엔드포인트: 관리자 권한이 없으므로 웹 경로는 항상 차단 (JMX로만 사용)
+                        .requestMatchers("/actuator/aipayloadlog/**").denyAll()
+
                         // H2 콘솔 & 인증 API 허용
                         .requestMatchers("/h2-console/**", "/api/auth/**").permitAll()
 
@@ -123,7 +126,7 @@ public class SecurityConfig {
         cfg.addAllowedOriginPattern("*");
         cfg.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         cfg.setAllowedHeaders(List.of("*"));
-        cfg.setExposedHeaders(List.of("Authorization"));
+        cfg.setExposedHeaders(List.of("Authorization", "Retry-After", "ETag"));
         cfg.setAllowCredentials(true);
         cfg.setMaxAge(3600L);
 
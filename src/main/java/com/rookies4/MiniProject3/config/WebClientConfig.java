@@ -1,18 +1,59 @@
 package com.rookies4.MiniProject3.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(PythonServerProperties.class)
 public class WebClientConfig {
 
-    @Value("${python.server.url:http://ai:8000}")
-    private String pythonServerUrl;
+    /**
+     * FastAPI 전용 커넥션 풀
+     * - metrics(true): reactor.netty.connection.provider.* 메트릭을 actuator(/actuator/metrics)로 노출
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider pythonServerConnectionProvider(PythonServerProperties props) {
+        PythonServerProperties.Pool pool = props.getPool();
+        return ConnectionProvider.builder("python-server")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true)
+                .build();
+    }
 
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        return builder.baseUrl(pythonServerUrl).build();
+    public WebClient webClient(WebClient.Builder builder,
+                               ConnectionProvider pythonServerConnectionProvider,
+                               PythonServerProperties props) {
+        HttpClient httpClient = HttpClient.create(pythonServerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, props.isKeepAlive())
+                // 작업별 타임아웃을 지정하지 않은 요청의 기본 응답 타임아웃
+                .responseTimeout(props.getTimeouts().getDefaultTimeout());
+
+        if (props.isH2c()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        log.info("🔌 FastAPI WebClient | url={} | maxConnections={} | h2c={}",
+                props.getUrl(), props.getPool().getMaxConnections(), props.isH2c());
+
+        return builder
+                .baseUrl(props.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 }
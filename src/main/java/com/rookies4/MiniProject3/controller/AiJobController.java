@@ -0,0 +1,21 @@
+package com.rookies4.MiniProject3.controller;
+
+import com.rookies4.MiniProject3.dto.AiJobDto;
+import com.rookies4.MiniProject3.service.job.AiJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class AiJobController {
+
+    private final AiJobService aiJobService;
+
+    /** 비동기 요약/퀴즈 생성 작업 상태 조회 */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AiJobDto.Response> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(AiJobDto.Response.fromEntity(aiJobService.getJob(jobId)));
+    }
+}
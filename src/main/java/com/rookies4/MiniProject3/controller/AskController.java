@@ -1,12 +1,21 @@
 package com.rookies4.MiniProject3.controller;
 
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.service.AnswerCache;
 import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @RestController
@@ -15,6 +24,8 @@ import java.util.Map;
 public class AskController {
 
     private final PythonServerClient pythonServerClient;
+    private final SingleFlight singleFlight;
+    private final AnswerCache answerCache;
 
     /**
      * ✅ 문서 기반 질문 (RAG + 웹검색)
@@ -28,35 +39,94 @@ public class AskController {
      * }
      */
     @PostMapping("/{contentId}/ask")
-    public ResponseEntity<?> askQuestion(
+    public Mono<ResponseEntity<?>> askQuestion(
             @PathVariable("contentId") Long contentId,
             @RequestBody Map<String, Object> requestBody
     ) {
-        try {
-            String question = (String) requestBody.get("question");
-            boolean forceWeb = requestBody.get("forceWeb") != null && (Boolean) requestBody.get("forceWeb");
-
-            if (question == null || question.isBlank()) {
-                return ResponseEntity.badRequest().body(Map.of(
-                        "error", "질문 내용이 비어 있습니다."
-                ));
-            }
-
-            log.info("🧠 [질문 요청 수신] contentId={} | question='{}' | forceWeb={}",
-                    contentId, question, forceWeb);
-
-            // ✅ FastAPI로 질문 전달
-            String response = pythonServerClient.askQuestion(contentId, question, forceWeb);
-
-            log.info("✅ [질문 결과 수신] contentId={} | 응답길이={}자", contentId, response.length());
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("❌ [질문 요청 실패] contentId={} | error={}", contentId, e.getMessage(), e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                    "error", "질문 처리 중 오류가 발생했습니다.",
-                    "message", e.getMessage()
-            ));
+        String question = (String) requestBody.get("question");
+        boolean forceWeb = requestBody.get("forceWeb") != null && (Boolean) requestBody.get("forceWeb");
+
+        if (question == null || question.isBlank()) {
+            return Mono.just(ResponseEntity.badRequest().body(Map.of(
+                    "error", "질문 내용이 비어 있습니다."
+            )));
         }
+
+        log.info("🧠 [질문 요청 수신] contentId={} | 질문길이={}자 | forceWeb={}",
+                contentId, question.length(), forceWeb);
+
+        // ✅ 같은 콘텐츠에 대한 같은(정규화 기준) 질문은 캐시된 답변 반환
+        Optional<String> cached = answerCache.get(contentId, question, forceWeb);
+        if (cached.isPresent()) {
+            log.info("⚡ [질문 캐시 적중] contentId={}", contentId);
+            return Mono.just(ResponseEntity.ok(cached.get()));
+        }
+
+        // ✅ FastAPI로 질문 전달 (논블로킹: 응답 대기 중 서블릿 스레드 반환)
+        // 같은 질문이 동시에 들어오면 FastAPI 호출 1회로 합침
+        // 호출 중 vectorPath가 바뀌면(세대 변경) 이전 인덱스 답변은 캐시에 저장하지 않음
+        return singleFlight.execute("ask", contentId + ":" + forceWeb + ":" + question, () -> {
+                    long generation = answerCache.generation(contentId);
+                    return pythonServerClient.askQuestionAsync(contentId, question, forceWeb)
+                            .doOnNext(answer -> answerCache.put(contentId, question, forceWeb, answer, generation));
+                })
+                .<ResponseEntity<?>>map(response -> {
+                    log.info("✅ [질문 결과 수신] contentId={} | 응답길이={}자", contentId, response.length());
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(CustomException.class, e -> {
+                    // AI 서버 장애/과부하(서킷 OPEN, 벌크헤드 포화) → 503
+                    log.warn("⚠️ [질문 요청 실패] contentId={} | {}", contentId, e.getErrorCode().getCode());
+                    return Mono.just(ResponseEntity.status(e.getErrorCode().getStatus()).body(Map.of(
+                            "error", e.getErrorCode().getCode(),
+                            "message", e.getErrorCode().getMessage()
+                    )));
+                })
+                .onErrorResume(e -> !(e instanceof CustomException), e -> {
+                    log.error("❌ [질문 요청 실패] contentId={} | error={}", contentId, e.getMessage(), e);
+                    return Mono.just(ResponseEntity.internalServerError().body(Map.of(
+                            "error", "질문 처리 중 오류가 발생했습니다.",
+                            "message", String.valueOf(e.getMessage())
+                    )));
+                });
+    }
+
+    /**
+     * ✅ 문서 기반 질문 (스트리밍, SSE)
+     * FastAPI `/api/contents/{content_id}/ask/stream` 출력을 토큰 단위로 그대로 전달
+     *
+     * event: token → 답변 조각 / event: done → 완료 / event: error → 실패 (에러 코드)
+     * 클라이언트가 연결을 끊으면 FastAPI 요청도 취소됩니다.
+     */
+    @PostMapping(value = "/{contentId}/ask/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> askQuestionStream(
+            @PathVariable("contentId") Long contentId,
+            @RequestBody Map<String, Object> requestBody
+    ) {
+        String question = (String) requestBody.get("question");
+        boolean forceWeb = requestBody.get("forceWeb") != null && (Boolean) requestBody.get("forceWeb");
+
+        if (question == null || question.isBlank()) {
+            return Flux.just(ServerSentEvent.<String>builder()
+                    .event("error").data("질문 내용이 비어 있습니다.").build());
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicBoolean firstToken = new AtomicBoolean(true);
+
+        return pythonServerClient.askQuestionStream(contentId, question, forceWeb)
+                .doOnNext(token -> {
+                    if (firstToken.compareAndSet(true, false)) {
+                        log.info("⚡ [첫 토큰 수신] contentId={} | ttft={}ms", contentId, (System.nanoTime() - startedAt) / 1_000_000);
+                    }
+                })
+                .map(token -> ServerSentEvent.<String>builder().event("token").data(token).build())
+                .concatWith(Mono.fromSupplier(() -> ServerSentEvent.<String>builder().event("done").data("[DONE]").build()))
+                .onErrorResume(e -> {
+                    String code = e instanceof CustomException ce ? ce.getErrorCode().getCode() : "ASK_STREAM_FAILED";
+                    log.warn("⚠️ [질문 스트리밍 실패] contentId={} | {}", contentId, code);
+                    return Mono.just(ServerSentEvent.<String>builder().event("error").data(code).build());
+                })
+                .doOnCancel(() -> log.info("🛑 [질문 스트리밍 취소] 클라이언트 연결 종료 | contentId={}", contentId));
     }
 }
@@ -0,0 +1,91 @@
+package com.rookies4.MiniProject3.controller;
+
+import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.service.UserIdResolver;
+import com.rookies4.MiniProject3.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 대용량 PDF 이어받기 업로드
+ * 1) POST   /api/contents/uploads                       세션 생성 {fileName, title, totalSize}
+ * 2) PUT    /api/contents/uploads/{uploadId}?offset=N   청크 전송 (application/octet-stream)
+ * 3) GET    /api/contents/uploads/{uploadId}            수신 구간 조회 (끊긴 뒤 이어서 보낼 위치 확인)
+ * 4) POST   /api/contents/uploads/{uploadId}/commit     완료 → Content 생성 (202, 이후 /{contentId}/status)
+ * 5) DELETE /api/contents/uploads/{uploadId}            취소
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/contents/uploads")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+    private final UserIdResolver userIdResolver;
+
+    @PostMapping
+    public ResponseEntity<ContentDto.UploadSessionResponse> createSession(
+            @RequestBody ContentDto.UploadSessionRequest request,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        ContentDto.UploadSessionResponse response = chunkedUploadService.createSession(resolveUserId(userDetails), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{uploadId}")
+    public ResponseEntity<ContentDto.UploadSessionResponse> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam("offset") long offset,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) throws IOException {
+        // Content-Length 없는 chunked 전송이면 -1 → 서비스가 남은 구간까지 읽음
+        ContentDto.UploadSessionResponse response = chunkedUploadService.writeChunk(
+                uploadId, resolveUserId(userDetails), offset, request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ContentDto.UploadSessionResponse> getStatus(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId, resolveUserId(userDetails)));
+    }
+
+    @PostMapping("/{uploadId}/commit")
+    public ResponseEntity<ContentDto.UploadResponse> commit(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        ContentDto.UploadResponse response = chunkedUploadService.commit(uploadId, resolveUserId(userDetails));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abort(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        chunkedUploadService.abort(uploadId, resolveUserId(userDetails));
+        return ResponseEntity.noContent().build();
+    }
+
+    private Long resolveUserId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        return userIdResolver.resolve(userDetails)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+}
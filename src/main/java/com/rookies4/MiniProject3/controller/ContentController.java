@@ -1,21 +1,23 @@
 package com.rookies4.MiniProject3.controller;
 
 import com.rookies4.MiniProject3.domain.entity.Content;
-import com.rookies4.MiniProject3.domain.entity.User;
 import com.rookies4.MiniProject3.dto.ContentDto;
-import com.rookies4.MiniProject3.repository.UserRepository;
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
+import com.rookies4.MiniProject3.service.UserIdResolver;
 import com.rookies4.MiniProject3.service.ContentService;
-import com.rookies4.MiniProject3.service.ProgressService;
+import com.rookies4.MiniProject3.service.ContentBatchUploadService;
+import com.rookies4.MiniProject3.service.ContentStatusRegistry;
 import com.rookies4.MiniProject3.service.PythonServerClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.File;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -27,10 +29,12 @@ public class ContentController {
 
     private final ContentService contentService;
     private final PythonServerClient pythonClient; // (사용 안 해도 무방)
-    private final UserRepository userRepository;
-    private final ProgressService progressService;
+    private final UserIdResolver userIdResolver;
+    private final ContentBatchUploadService contentBatchUploadService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentStatusRegistry contentStatusRegistry;
 
-    /** 📂 문서 업로드 + Progress 생성 */
+    /** 📂 문서 업로드 + Progress 생성 (벡터화는 백그라운드 → 202 Accepted, 완료 여부는 /{contentId}/status) */
     @PostMapping("/upload")
     public ResponseEntity<List<ContentDto.UploadResponse>> uploadContents(
             @RequestParam("files") List<MultipartFile> files,
@@ -41,31 +45,16 @@ public class ContentController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(List.of());
         }
 
-        List<ContentDto.UploadResponse> responses = new ArrayList<>();
-        String saveDir = "C:/uploads/"; // FileStorageService가 다른 경로를 쓰면 이건 생략 가능
-        new File(saveDir).mkdirs();
-
         String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
+        // 토큰의 uid 클레임 사용 (DB 조회 없음)
+        Long userId = userIdResolver.resolve(userDetails)
                 .orElseThrow(() -> new RuntimeException("로그인된 사용자를 찾을 수 없습니다: " + email));
-        Long userId = user.getId();
-
-        log.info("📦 파일 업로드 요청 | userId={} | email={} | title={}", userId, email, title);
-
-        for (MultipartFile file : files) {
-            try {
-                // 1) 콘텐츠 업로드 및 DB 저장
-                ContentDto.UploadResponse response = contentService.uploadFile(file, title, userId);
-                responses.add(response);
-
-                // 2) Progress 자동 생성
-                progressService.createProgressIfNotExists(userId, response.getContentId());
-                log.info("🧩 Progress 생성 완료 | userId={} | contentId={}", userId, response.getContentId());
-            } catch (Exception e) {
-                log.error("❌ 파일 업로드 실패 | file={} | message={}", file.getOriginalFilename(), e.getMessage());
-            }
-        }
-        return ResponseEntity.ok(responses);
+
+        log.info("📦 파일 업로드 요청 | userId={} | email={} | title={} | files={}", userId, email, title, files.size());
+
+        // 파일별 저장 + Progress 생성을 제한된 병렬도로 처리 (결과는 입력 순서 유지)
+        List<ContentDto.UploadResponse> responses = contentBatchUploadService.uploadAll(files, title, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(responses);
     }
 
     /** ✅ 내 콘텐츠 목록 조회: GET /api/contents */
@@ -75,13 +64,12 @@ public class ContentController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("message", "Unauthorized"));
         }
-        String email = userDetails.getUsername();
-        Optional<User> meOpt = userRepository.findByEmail(email);
+        Optional<Long> meOpt = userIdResolver.resolve(userDetails);
         if (meOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("message", "User not found"));
         }
-        Long userId = meOpt.get().getId();
+        Long userId = meOpt.get();
 
         // 서비스에서 사용자별 콘텐츠 조회
         List<Content> contents = contentService.findByUserId(userId);
@@ -126,13 +114,13 @@ public class ContentController {
         }
     }
 
-    /** FastAPI → 백엔드: 벡터 경로 업데이트 */
+    /** FastAPI → 백엔드: 벡터 경로 업데이트 (외부 콜백 전용, 내부 업로드 흐름은 이벤트로 직접 반영) */
     @PatchMapping("/{contentId}/vector-path")
     public ResponseEntity<String> updateVectorPath(
             @PathVariable Long contentId,
             @RequestParam("vectorPath") String vectorPath
     ) {
-        contentService.updateVectorPath(contentId, vectorPath);
+        eventPublisher.publishEvent(ContentUpdatedEvent.vectorPath(contentId, vectorPath));
         log.info("✅ [VECTOR PATH 저장 완료] contentId={} | vectorPath={}", contentId, vectorPath);
         return ResponseEntity.ok("vectorPath 업데이트 완료: " + vectorPath);
     }
@@ -143,4 +131,10 @@ public class ContentController {
         ContentDto.StatusResponse response = contentService.getContentStatus(contentId);
         return ResponseEntity.ok(response);
     }
+
+    /** 콘텐츠 처리 상태 스트림 (SSE): status / chapters_detected / summary_ready / quiz_ready */
+    @GetMapping(value = "/{contentId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamContentEvents(@PathVariable Long contentId) {
+        return contentStatusRegistry.subscribe(contentId);
+    }
 }
@@ -3,6 +3,7 @@ package com.rookies4.MiniProject3.controller;
 import com.rookies4.MiniProject3.domain.entity.User;
 import com.rookies4.MiniProject3.dto.ProgressDto;
 import com.rookies4.MiniProject3.repository.UserRepository;
+import com.rookies4.MiniProject3.service.UserIdResolver;
 import com.rookies4.MiniProject3.service.ProgressService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ public class ProgressController {
 
     private final ProgressService progressService;
     private final UserRepository userRepository;
+    private final UserIdResolver userIdResolver;
 
     // ✅ 내 진행 현황: /api/progress/me
     @GetMapping("/me")
@@ -31,13 +33,12 @@ public class ProgressController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("message", "Unauthorized"));
         }
-        String email = principal.getUsername();
-        Optional<User> me = userRepository.findByEmail(email);
+        Optional<Long> me = userIdResolver.resolve(principal);
         if (me.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("message", "User not found"));
         }
-        List<ProgressDto.Response> response = progressService.getUserProgress(me.get().getId());
+        List<ProgressDto.Response> response = progressService.getUserProgress(me.get());
         return ResponseEntity.ok(response);
     }
 
@@ -1,10 +1,12 @@
 package com.rookies4.MiniProject3.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.domain.entity.AiJob;
 import com.rookies4.MiniProject3.domain.entity.Content;
 import com.rookies4.MiniProject3.domain.entity.Progress;
 import com.rookies4.MiniProject3.domain.entity.Quiz;
 import com.rookies4.MiniProject3.domain.entity.QuizAttempt;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
 import com.rookies4.MiniProject3.dto.QuizGradeRequest;
 import com.rookies4.MiniProject3.dto.QuizRequest;
 import com.rookies4.MiniProject3.dto.QuizResponseDto;
@@ -12,12 +14,19 @@ import com.rookies4.MiniProject3.exception.CustomException;
 import com.rookies4.MiniProject3.service.ContentService;
 import com.rookies4.MiniProject3.service.ProgressService;
 import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.QuizBatchCache;
+import com.rookies4.MiniProject3.service.QuizPool;
 import com.rookies4.MiniProject3.service.QuizService;
+import com.rookies4.MiniProject3.service.SingleFlight;
+import com.rookies4.MiniProject3.service.job.AiJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -32,119 +41,157 @@ public class QuizController {
     private final PythonServerClient pythonClient;
     private final ProgressService progressService;
     private final QuizService quizService;
+    private final AiJobService aiJobService;
+    private final SingleFlight singleFlight;
+    private final QuizBatchCache quizBatchCache;
+    private final QuizPool quizPool;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // =========================
     // 1) 퀴즈 생성
     // =========================
     @PostMapping("/generate")
-    public ResponseEntity<?> generateQuiz(
+    public Mono<ResponseEntity<?>> generateQuiz(
             @PathVariable Long contentId,
-            @RequestBody QuizRequest request
+            @RequestBody QuizRequest request,
+            @RequestParam(value = "async", defaultValue = "false") boolean async
     ) {
+        Content content;
+        List<String> pdfPaths;
         try {
-            Content content = contentService.findById(contentId);
+            content = contentService.findById(contentId);
             if (content == null) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(Map.of("status", "error", "message", "❌ 콘텐츠를 찾을 수 없습니다."));
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("status", "error", "message", "❌ 콘텐츠를 찾을 수 없습니다.")));
             }
 
-            List<String> pdfPaths = contentService.getPdfPaths(contentId);
+            // async=true → 작업 큐에 등록하고 즉시 202 (생성된 batch는 GET /api/jobs/{jobId}의 result)
+            if (async) {
+                AiJob job = aiJobService.enqueue(AiJobType.QUIZ_GENERATE, contentId, Map.of(
+                        "numQuestions", request.getNumQuestions(),
+                        "difficulty", request.getDifficulty()
+                ));
+                return Mono.just(ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                        "status", "queued",
+                        "message", "✅ 퀴즈 생성 작업 등록 완료",
+                        "jobId", job.getId()
+                )));
+            }
+
+            pdfPaths = contentService.getPdfPaths(contentId);
             if (pdfPaths == null || pdfPaths.isEmpty()) {
-                return ResponseEntity.badRequest()
-                        .body(Map.of("status", "error", "message", "❌ PDF 경로가 존재하지 않습니다."));
+                return Mono.just(ResponseEntity.badRequest()
+                        .body(Map.of("status", "error", "message", "❌ PDF 경로가 존재하지 않습니다.")));
             }
 
-            List<QuizResponseDto> generated = pythonClient.generateQuiz(
-                    contentId, pdfPaths, request.getNumQuestions(), request.getDifficulty()
-            );
-            if (generated.isEmpty()) {
-                return ResponseEntity.badRequest()
-                        .body(Map.of("status", "error", "message", "❌ 퀴즈 생성 실패 (python 서버 응답 없음)"));
+            // 미리 생성된 세트가 있으면 FastAPI 호출 없이 바로 저장/응답
+            Optional<List<QuizResponseDto>> pooled =
+                    quizPool.claim(contentId, request.getDifficulty(), request.getNumQuestions(), pdfPaths);
+            if (pooled.isPresent()) {
+                return Mono.just(saveGeneratedQuizzes(content, pooled.get()));
             }
+        } catch (Exception e) {
+            return Mono.just(generateErrorResponse(contentId, e));
+        }
+
+        // FastAPI 응답 대기 중 서블릿 스레드 반환, 저장은 boundedElastic에서 수행
+        // 같은 조건(콘텐츠/문항 수/난이도)의 동시 생성 요청은 한 번만 생성해 같은 batch를 공유
+        String flightKey = contentId + ":" + request.getNumQuestions() + ":" + request.getDifficulty();
+        return singleFlight.execute("quiz-generate", flightKey, () ->
+                        pythonClient.generateQuizAsync(contentId, pdfPaths, request.getNumQuestions(), request.getDifficulty())
+                                .publishOn(Schedulers.boundedElastic())
+                                .<ResponseEntity<?>>map(generated -> saveGeneratedQuizzes(content, generated)))
+                .onErrorResume(e -> Mono.just(generateErrorResponse(contentId, e)));
+    }
+
+    private ResponseEntity<?> saveGeneratedQuizzes(Content content, List<QuizResponseDto> generated) {
+        if (generated.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("status", "error", "message", "❌ 퀴즈 생성 실패 (python 서버 응답 없음)"));
+        }
+
+        List<Quiz> saved = quizService.saveGeneratedQuizSet(content, generated);
+        int batch = saved.isEmpty() ? -1 : saved.get(0).getQuizBatch();
 
-            List<Quiz> saved = quizService.saveGeneratedQuizSet(content, generated);
-            int batch = saved.isEmpty() ? -1 : saved.get(0).getQuizBatch();
-
-            List<Map<String, Object>> quizList = new ArrayList<>();
-            for (Quiz q : saved) {
-                List<String> options = objectMapper.readValue(q.getOptions(), List.class);
-                Map<String, Object> map = new LinkedHashMap<>();
-                map.put("quiz_id", q.getQuizId());
-                map.put("quiz_batch", q.getQuizBatch());
-                map.put("question", q.getQuestion());
-                map.put("options", options);
-                map.put("correct_answer", q.getCorrectAnswer());
-                map.put("explanation", q.getExplanation());
-                quizList.add(map);
+        List<Map<String, Object>> quizList = new ArrayList<>();
+        for (Quiz q : saved) {
+            List<String> options;
+            try {
+                options = objectMapper.readValue(q.getOptions(), List.class);
+            } catch (Exception e) {
+                options = List.of();
             }
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("quiz_id", q.getQuizId());
+            map.put("quiz_batch", q.getQuizBatch());
+            map.put("question", q.getQuestion());
+            map.put("options", options);
+            map.put("correct_answer", q.getCorrectAnswer());
+            map.put("explanation", q.getExplanation());
+            quizList.add(map);
+        }
 
-            log.info("✅ 퀴즈 생성 완료 | contentId={} | batch={} | count={}", contentId, batch, quizList.size());
-            return ResponseEntity.ok(Map.of(
-                    "status", "success",
-                    "message", "✅ 퀴즈 생성 및 저장 완료",
-                    "batch", batch,
-                    "generatedCount", quizList.size(),
-                    "quizzes", quizList
-            ));
+        log.info("✅ 퀴즈 생성 완료 | contentId={} | batch={} | count={}", content.getId(), batch, quizList.size());
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "message", "✅ 퀴즈 생성 및 저장 완료",
+                "batch", batch,
+                "generatedCount", quizList.size(),
+                "quizzes", quizList
+        ));
+    }
 
-        } catch (Exception e) {
-            log.error("🚨 퀴즈 생성 오류", e);
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("status", "error", "message", "서버 내부 오류"));
+    private ResponseEntity<?> generateErrorResponse(Long contentId, Throwable e) {
+        if (e instanceof CustomException ce) {
+            log.warn("⚠️ 퀴즈 생성 실패 | contentId={} | {}", contentId, ce.getErrorCode().getCode());
+            return ResponseEntity.status(ce.getErrorCode().getStatus())
+                    .body(Map.of("status", "error", "message", ce.getErrorCode().getMessage()));
         }
+        log.error("🚨 퀴즈 생성 오류", e);
+        return ResponseEntity.internalServerError()
+                .body(Map.of("status", "error", "message", "서버 내부 오류"));
     }
 
     // =========================
     // 2) 퀴즈 조회 (batch 지정 가능)
+    //    - 저장된 회차는 불변 → 직렬화된 응답 바이트를 캐시해서 그대로 전송 (gzip 지원, ETag/304)
     // =========================
     @GetMapping("")
     public ResponseEntity<?> getQuizzes(
             @PathVariable Long contentId,
-            @RequestParam(value = "batch", required = false) Integer batchParam
+            @RequestParam(value = "batch", required = false) Integer batchParam,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
     ) {
         try {
+            // 회차 지정 + 캐시 적중 → DB 조회 없이 응답
+            if (batchParam != null) {
+                Optional<QuizBatchCache.Entry> cached = quizBatchCache.getIfPresent(contentId, batchParam);
+                if (cached.isPresent()) {
+                    return batchResponse(cached.get(), acceptEncoding, webRequest);
+                }
+            }
+
             Content content = contentService.findById(contentId);
             if (content == null)
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(Map.of("status", "error", "message", "❌ 콘텐츠를 찾을 수 없습니다."));
 
-            final int batchUsed;
-            final List<Quiz> quizzes;
+            final int batchUsed = (batchParam != null)
+                    ? batchParam
+                    : quizService.getLatestBatchForContent(content);
 
-            if (batchParam != null) {
-                quizzes = quizService.getQuizzesByContentAndBatch(content, batchParam);
-                batchUsed = batchParam;
-            } else {
-                batchUsed = quizService.getLatestBatchForContent(content);
-                quizzes = quizService.getLatestBatchQuizzes(content);
-            }
+            Optional<QuizBatchCache.Entry> entry = (batchUsed > 0)
+                    ? quizBatchCache.get(contentId, batchUsed,
+                            () -> quizService.getQuizzesByContentAndBatch(content, batchUsed))
+                    : Optional.empty();
 
-            if (quizzes.isEmpty()) {
+            if (entry.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(Map.of("status", "error", "message", "❌ 해당 회차의 퀴즈가 없습니다.", "batch", batchUsed));
             }
 
-            List<Map<String, Object>> resultList = new ArrayList<>();
-            for (Quiz q : quizzes) {
-                List<String> options = objectMapper.readValue(q.getOptions(), List.class);
-                Map<String, Object> map = new LinkedHashMap<>();
-                map.put("quiz_id", q.getQuizId());
-                map.put("quiz_batch", q.getQuizBatch());
-                map.put("question", q.getQuestion());
-                map.put("options", options);
-                map.put("correct_answer", q.getCorrectAnswer());
-                map.put("explanation", q.getExplanation());
-                resultList.add(map);
-            }
-
-            return ResponseEntity.ok(Map.of(
-                    "status", "success",
-                    "content_id", contentId,
-                    "quiz_batch", batchUsed,
-                    "quiz_count", resultList.size(),
-                    "quizzes", resultList
-            ));
+            return batchResponse(entry.get(), acceptEncoding, webRequest);
         } catch (Exception e) {
             log.error("🚨 퀴즈 조회 오류", e);
             return ResponseEntity.internalServerError()
@@ -342,4 +389,51 @@ public class QuizController {
                     .body(Map.of("status", "error", "message", "시도 조회 중 오류 발생"));
         }
     }
+
+    // 캐시된 회차 응답 전송: gzip 허용 시 압축본 그대로 전송, 표현(원본/gzip)별 ETag로 If-None-Match 비교 → 304
+    private ResponseEntity<?> batchResponse(QuizBatchCache.Entry entry, String acceptEncoding, WebRequest webRequest) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? entry.gzipEtag() : entry.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return builder.body(entry.json());
+    }
+
+    // Accept-Encoding 해석: gzip(또는 *)의 q 값이 0보다 크면 허용 ("gzip;q=0"은 거부)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return false;
+        Double gzipQ = null;
+        Double wildcardQ = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.length() > 2 && param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0.0;
+                    }
+                }
+            }
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+            } else if ("*".equals(coding)) {
+                wildcardQ = q;
+            }
+        }
+        if (gzipQ != null) return gzipQ > 0;
+        return wildcardQ != null && wildcardQ > 0;
+    }
 }
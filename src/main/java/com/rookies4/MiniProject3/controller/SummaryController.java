@@ -2,21 +2,31 @@ package com.rookies4.MiniProject3.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.domain.entity.AiJob;
 import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
 import com.rookies4.MiniProject3.dto.SummaryDto;
 import com.rookies4.MiniProject3.exception.CustomException;
 import com.rookies4.MiniProject3.exception.ErrorCode;
 import com.rookies4.MiniProject3.repository.ContentRepository;
 import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.SingleFlight;
 import com.rookies4.MiniProject3.service.SummaryService;
+import com.rookies4.MiniProject3.service.job.AiJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -28,170 +38,242 @@ public class SummaryController {
     private final SummaryService summaryService;
     private final ContentRepository contentRepository;
     private final ObjectMapper objectMapper; // ✅ 주입받기 (전역 설정 사용)
+    private final AiJobService aiJobService;
+    private final SingleFlight singleFlight;
 
     // ==========================================================
     // ✅ [1] 전체 요약 생성
+    //  - 저장된 요약이 있으면 FastAPI 호출 없이 바로 반환 (refresh=true 일 때만 재생성)
+    //  - FastAPI 응답 대기 중 서블릿 스레드를 점유하지 않음 (Mono 반환)
+    //  - 응답 파싱/DB 저장은 boundedElastic에서 수행 (이벤트 루프 블로킹 방지)
     // ==========================================================
     @PostMapping("/{contentId}/summarize")
-    public ResponseEntity<?> summarizeFull(@PathVariable Long contentId) {
-        log.info("📘 전체 요약 요청 수신 | contentId={}", contentId);
+    public Mono<ResponseEntity<?>> summarizeFull(
+            @PathVariable Long contentId,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
+            @RequestParam(value = "refresh", defaultValue = "false") boolean refresh
+    ) {
+        log.info("📘 전체 요약 요청 수신 | contentId={} | async={} | refresh={}", contentId, async, refresh);
 
+        Content content;
         try {
             // 0) Content 선검증 (불필요한 외부호출 방지)
-            Content content = contentRepository.findById(contentId)
+            content = contentRepository.findById(contentId)
                     .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
 
-            // 1) FastAPI 호출 → 문자열(원문) 수신
-            String body;
-            try {
-                body = pythonClient.summarizeFull(contentId);
-            } catch (HttpStatusCodeException ex) {
-                // FastAPI가 4xx/5xx면 여기로 옴 — 바디 꺼내서 그대로 전달
-                String errBody = ex.getResponseBodyAsString();
-                log.error("❌ Summarizer HTTP {} | body={}", ex.getStatusCode(), errBody);
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "SUMMARIZER_HTTP_ERROR",
-                        "message", errBody
-                ));
-            }
-
-            if (body == null || body.isBlank()) {
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "SUMMARIZER_EMPTY",
-                        "message", "Empty response from summarizer"
-                ));
-            }
-
-            // 2) JSON 파싱 방어
-            JsonNode node;
-            try {
-                node = objectMapper.readTree(body);
-            } catch (Exception parseEx) {
-                log.error("❌ NON-JSON from summarizer: {}", body);
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "SUMMARIZER_NON_JSON",
-                        "message", body
-                ));
+            // 이미 생성된 요약 → DB 조회만으로 응답
+            if (!refresh) {
+                Optional<SummaryDto.Response> stored = summaryService.findStoredSummary(contentId, 0);
+                if (stored.isPresent()) {
+                    log.info("✅ 저장된 전체 요약 반환 | contentId={}", contentId);
+                    return Mono.just(ResponseEntity.ok(Map.of(
+                            "content_id", contentId,
+                            "summaryText", stored.get().getSummaryText()
+                    )));
+                }
             }
 
-            // 3) FastAPI 에러 패턴 처리: {"detail": "..."}
-            if (node.hasNonNull("detail")) {
-                String detail = node.get("detail").asText();
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "SUMMARIZER_FAILED",
-                        "message", detail
-                ));
+            // async=true → 작업 큐에 등록하고 즉시 202 (결과는 GET /api/jobs/{jobId} 또는 GET /summarize)
+            if (async) {
+                AiJob job = aiJobService.enqueue(AiJobType.SUMMARIZE_FULL, contentId, Map.of("refresh", refresh));
+                return Mono.just(queued(job));
             }
+        } catch (CustomException e) {
+            return Mono.just(errorResponse(e));
+        }
 
-            // 4) 정상 필드 확인
-            String summaryText = node.path("summaryText").asText(null);
-            if (summaryText == null || summaryText.isBlank()) {
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "MISSING_SUMMARY_TEXT",
-                        "message", "summaryText is missing in summarizer response"
-                ));
-            }
+        // 1) FastAPI 호출 → 문자열(원문) 수신
+        // 같은 콘텐츠의 동시 요약 요청은 FastAPI 호출/저장 1회로 합침
+        return singleFlight.execute("summarize-full", String.valueOf(contentId), () ->
+                        pythonClient.summarizeFullAsync(contentId)
+                                .publishOn(Schedulers.boundedElastic())
+                                .<ResponseEntity<?>>map(body -> handleFullSummary(content, body))
+                                .defaultIfEmpty(emptySummarizerResponse()))
+                .onErrorResume(CustomException.class, e -> {
+                    log.error("❌ 전체 요약 처리 실패 | contentId={} | {}", contentId, e.getErrorCode().getMessage());
+                    return Mono.just(errorResponse(e));
+                })
+                .onErrorResume(e -> !(e instanceof CustomException), e -> {
+                    log.error("❌ summarizeFull 예외 | contentId={} | {}", contentId, e.getMessage(), e);
+                    return Mono.just(ResponseEntity.internalServerError().body(Map.of(
+                            "error", "SUMMARIZE_FULL_FAILED",
+                            "message", String.valueOf(e.getMessage())
+                    )));
+                });
+    }
 
-            // 5) 저장 (원문 JSON을 raw로 저장하거나 필요한 부분만 저장)
-            summaryService.saveFullSummary(content, body);
+    private ResponseEntity<?> handleFullSummary(Content content, String body) {
+        if (body == null || body.isBlank()) {
+            return emptySummarizerResponse();
+        }
 
-            log.info("✅ 전체 요약 저장 및 반환 완료 | contentId={}", contentId);
-            return ResponseEntity.ok(objectMapper.convertValue(node, Map.class));
+        // 2) JSON 파싱 방어
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(body);
+        } catch (Exception parseEx) {
+            log.error("❌ NON-JSON from summarizer: {}", body);
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
+                    "error", "SUMMARIZER_NON_JSON",
+                    "message", body
+            ));
+        }
 
-        } catch (CustomException e) {
-            log.error("❌ 전체 요약 처리 실패 | contentId={} | {}", contentId, e.getErrorCode().getMessage());
-            return ResponseEntity.status(e.getErrorCode().getStatus()).body(Map.of(
-                    "error", e.getErrorCode().getCode(),
-                    "message", e.getErrorCode().getMessage()
+        // 3) FastAPI 에러 패턴 처리: {"detail": "..."}
+        if (node.hasNonNull("detail")) {
+            String detail = node.get("detail").asText();
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
+                    "error", "SUMMARIZER_FAILED",
+                    "message", detail
             ));
-        } catch (Exception e) {
-            log.error("❌ summarizeFull 예외 | contentId={} | {}", contentId, e.getMessage(), e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                    "error", "SUMMARIZE_FULL_FAILED",
-                    "message", e.getMessage()
+        }
+
+        // 4) 정상 필드 확인
+        String summaryText = node.path("summaryText").asText(null);
+        if (summaryText == null || summaryText.isBlank()) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
+                    "error", "MISSING_SUMMARY_TEXT",
+                    "message", "summaryText is missing in summarizer response"
             ));
         }
+
+        // 5) 저장 (원문 JSON을 raw로 저장하거나 필요한 부분만 저장)
+        summaryService.saveFullSummary(content, body);
+
+        log.info("✅ 전체 요약 저장 및 반환 완료 | contentId={}", content.getId());
+        return ResponseEntity.ok(objectMapper.convertValue(node, Map.class));
     }
 
     // ==========================================================
     // ✅ [2] 단원별 요약 생성
     // ==========================================================
     @PostMapping("/{contentId}/summaries")
-    public ResponseEntity<?> summarizeByChapter(
+    public Mono<ResponseEntity<?>> summarizeByChapter(
             @PathVariable Long contentId,
-            @RequestBody SummaryDto.ChapterRequest request
+            @RequestBody SummaryDto.ChapterRequest request,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
+            @RequestParam(value = "refresh", defaultValue = "false") boolean refresh
     ) {
-        log.info("📘 단원별 요약 요청 수신 | contentId={} | chapter={}", contentId, request.getChapter());
+        log.info("📘 단원별 요약 요청 수신 | contentId={} | chapter={} | async={} | refresh={}",
+                contentId, request.getChapter(), async, refresh);
 
+        Content content;
         try {
-            Content content = contentRepository.findById(contentId)
+            content = contentRepository.findById(contentId)
                     .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
 
-            String body;
-            try {
-                body = pythonClient.summarizeByChapter(contentId, request);
-            } catch (HttpStatusCodeException ex) {
-                String errBody = ex.getResponseBodyAsString();
-                log.error("❌ Summarizer HTTP {} | body={}", ex.getStatusCode(), errBody);
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "SUMMARIZER_HTTP_ERROR",
-                        "message", errBody
-                ));
-            }
-
-            if (body == null || body.isBlank()) {
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "SUMMARIZER_EMPTY",
-                        "message", "Empty response from summarizer"
-                ));
+            // 요청 단원의 요약이 이미 있으면 DB 조회만으로 응답 (FastAPI 응답과 같은 형태)
+            if (!refresh && request.getChapter() != null) {
+                Optional<SummaryDto.Response> stored = summaryService.findStoredSummary(contentId, request.getChapter());
+                if (stored.isPresent()) {
+                    log.info("✅ 저장된 단원 요약 반환 | contentId={} | chapter={}", contentId, request.getChapter());
+                    return Mono.just(ResponseEntity.ok(Map.of(
+                            "content_id", contentId,
+                            "summaries", List.of(Map.of(
+                                    "chapter", String.valueOf(stored.get().getChapter()),
+                                    "summaryText", stored.get().getSummaryText()
+                            ))
+                    )));
+                }
             }
 
-            JsonNode node;
-            try {
-                node = objectMapper.readTree(body);
-            } catch (Exception parseEx) {
-                log.error("❌ NON-JSON from summarizer: {}", body);
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "SUMMARIZER_NON_JSON",
-                        "message", body
-                ));
-            }
-
-            if (node.hasNonNull("detail")) {
-                String detail = node.get("detail").asText();
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
-                        "error", "SUMMARIZER_FAILED",
-                        "message", detail
-                ));
+            if (async) {
+                Map<String, Object> payload = new HashMap<>();
+                payload.put("chapter", request.getChapter());
+                payload.put("refresh", refresh);
+                AiJob job = aiJobService.enqueue(AiJobType.SUMMARIZE_CHAPTER, contentId, payload);
+                return Mono.just(queued(job));
             }
+        } catch (CustomException e) {
+            return Mono.just(errorResponse(e));
+        }
 
-            int saved = summaryService.saveChapterSummaries(content, body);
-            log.info("✅ 단원별 요약 {}개 저장 | contentId={}", saved, contentId);
+        return singleFlight.execute("summarize-chapter", contentId + ":" + request.getChapter(), () ->
+                        pythonClient.summarizeByChapterAsync(contentId, request)
+                                .publishOn(Schedulers.boundedElastic())
+                                .<ResponseEntity<?>>map(body -> handleChapterSummaries(content, body))
+                                .defaultIfEmpty(emptySummarizerResponse()))
+                .onErrorResume(CustomException.class, e -> Mono.just(errorResponse(e)))
+                .onErrorResume(e -> !(e instanceof CustomException), e -> {
+                    log.error("❌ summarizeByChapter 예외 | contentId={} | {}", contentId, e.getMessage(), e);
+                    return Mono.just(ResponseEntity.internalServerError().body(Map.of(
+                            "error", "SUMMARIZE_BY_CHAPTER_FAILED",
+                            "message", String.valueOf(e.getMessage())
+                    )));
+                });
+    }
 
-            return ResponseEntity.ok(objectMapper.convertValue(node, Map.class));
+    private ResponseEntity<?> handleChapterSummaries(Content content, String body) {
+        if (body == null || body.isBlank()) {
+            return emptySummarizerResponse();
+        }
 
-        } catch (CustomException e) {
-            return ResponseEntity.status(e.getErrorCode().getStatus()).body(Map.of(
-                    "error", e.getErrorCode().getCode(),
-                    "message", e.getErrorCode().getMessage()
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(body);
+        } catch (Exception parseEx) {
+            log.error("❌ NON-JSON from summarizer: {}", body);
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
+                    "error", "SUMMARIZER_NON_JSON",
+                    "message", body
             ));
-        } catch (Exception e) {
-            log.error("❌ summarizeByChapter 예외 | contentId={} | {}", contentId, e.getMessage(), e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                    "error", "SUMMARIZE_BY_CHAPTER_FAILED",
-                    "message", e.getMessage()
+        }
+
+        if (node.hasNonNull("detail")) {
+            String detail = node.get("detail").asText();
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
+                    "error", "SUMMARIZER_FAILED",
+                    "message", detail
             ));
         }
+
+        int saved = summaryService.saveChapterSummaries(content, body);
+        log.info("✅ 단원별 요약 {}개 저장 | contentId={}", saved, content.getId());
+
+        return ResponseEntity.ok(objectMapper.convertValue(node, Map.class));
     }
 
     // ==========================================================
     // ✅ [3] 전체 요약 조회
     // ==========================================================
     @GetMapping("/{contentId}/summarize")
-    public ResponseEntity<SummaryDto.Response> getFullSummary(@PathVariable Long contentId) {
+    public ResponseEntity<SummaryDto.Response> getFullSummary(@PathVariable Long contentId, WebRequest webRequest) {
         log.info("📗 전체 요약 조회 요청 | contentId={}", contentId);
-        SummaryDto.Response summary = summaryService.getFullSummaryByContentId(contentId);
+        SummaryDto.Cached summary = summaryService.getCachedFullSummary(contentId);
+
+        // If-None-Match 일치 → 304 (본문 없이 ETag만)
+        if (webRequest.checkNotModified(summary.getEtag())) {
+            log.info("✅ 전체 요약 변경 없음(304) | contentId={}", contentId);
+            return null;
+        }
+
         log.info("✅ 전체 요약 조회 완료 | contentId={}", contentId);
-        return ResponseEntity.ok(summary);
+        return ResponseEntity.ok()
+                .eTag(summary.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(summary.getBody());
+    }
+
+    private ResponseEntity<?> emptySummarizerResponse() {
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
+                "error", "SUMMARIZER_EMPTY",
+                "message", "Empty response from summarizer"
+        ));
+    }
+
+    private ResponseEntity<?> errorResponse(CustomException e) {
+        return ResponseEntity.status(e.getErrorCode().getStatus()).body(Map.of(
+                "error", e.getErrorCode().getCode(),
+                "message", e.getErrorCode().getMessage()
+        ));
+    }
+
+    private ResponseEntity<?> queued(AiJob job) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "status", job.getStatus().name(),
+                "jobId", job.getId(),
+                "contentId", job.getContentId(),
+                "type", job.getType().name()
+        ));
     }
 }
@@ -0,0 +1,86 @@
+package com.rookies4.MiniProject3.domain.entity;
+
+import com.rookies4.MiniProject3.domain.enums.AiJobStatus;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 서버 작업 큐 (outbox)
+ * - 요청 트랜잭션 안에서 함께 저장되고, 워커가 행 잠금으로 점유하여 실행
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수 초과 시 DEAD
+ */
+@Entity
+@Table(name = "ai_jobs", indexes = {
+        @Index(name = "idx_ai_jobs_status_next_run", columnList = "status, next_run_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private AiJobType type;
+
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    /** 작업 파라미터 (JSON) */
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AiJobStatus status;
+
+    /** 지금까지 실행을 시작한 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "max_attempts", nullable = false)
+    private int maxAttempts;
+
+    /** 다음 실행 가능 시각 (재시도 백오프) */
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    /** 점유한 워커 식별자 / 점유 시각 (재시작 복구용 lease) */
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /** 작업 결과 (JSON, 예: 생성된 퀴즈 batch) */
+    @Column(columnDefinition = "TEXT")
+    private String result;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextRunAt == null) this.nextRunAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "contents")
+@Table(name = "contents", indexes = {
+        @Index(name = "idx_contents_content_hash", columnList = "content_hash")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,6 +35,10 @@ public class Content {
     @Column(name = "file_path", nullable = false)
     private String filePath;
 
+    /** 파일 내용의 SHA-256 (동일 PDF 중복 업로드 감지용) */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     /** 백터 DB 경로 (FastAPI 응답으로 전달됨) */
     @Column(name = "vector_path")
     private String vectorPath;
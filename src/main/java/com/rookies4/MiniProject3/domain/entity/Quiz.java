@@ -7,7 +7,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "quizzes")
+@Table(name = "quizzes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_quizzes_content_batch_quiz",
+                columnNames = {"content_id", "quiz_batch", "quiz_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "summaries")
+@Table(name = "summaries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_summaries_content_chapter", columnNames = {"content_id", "chapter"}))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Summary {
@@ -27,6 +28,12 @@ public class Summary {
     @Column(columnDefinition = "JSON")
     private String keySentences;
 
+    // 재생성 시 같은 (content, chapter) 행을 갱신
+    public void update(String summaryText, String keySentences) {
+        this.summaryText = summaryText;
+        this.keySentences = keySentences;
+    }
+
     // 빌더 패턴을 위한 생성자
     @Builder
     public Summary(Content content, int chapter, String summaryText, String keySentences) {
@@ -0,0 +1,8 @@
+package com.rookies4.MiniProject3.domain.enums;
+
+public enum AiJobStatus {
+    PENDING,    // 실행 대기 (재시도 대기 포함)
+    RUNNING,    // 워커가 점유하여 실행 중
+    SUCCEEDED,  // 완료
+    DEAD        // 최대 재시도 초과 → 더 이상 실행하지 않음
+}
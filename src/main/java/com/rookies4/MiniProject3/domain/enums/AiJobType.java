@@ -0,0 +1,8 @@
+package com.rookies4.MiniProject3.domain.enums;
+
+public enum AiJobType {
+    VECTORIZE,          // 업로드 PDF 벡터화 + 챕터 감지
+    SUMMARIZE_FULL,     // 전체 요약 생성
+    SUMMARIZE_CHAPTER,  // 단원별 요약 생성
+    QUIZ_GENERATE       // 퀴즈 세트 생성
+}
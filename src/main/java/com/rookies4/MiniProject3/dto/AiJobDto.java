@@ -0,0 +1,47 @@
+package com.rookies4.MiniProject3.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class AiJobDto {
+
+    // ============================================
+    // ✅ 작업 상태 조회 응답 DTO
+    // ============================================
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private Long jobId;
+        private String type;
+        private Long contentId;
+        private String status;      // PENDING, RUNNING, SUCCEEDED, DEAD
+        private Integer attempts;
+        private String lastError;
+        @JsonRawValue
+        private String result;      // 작업 결과 JSON (예: {"batch": 3, "generatedCount": 5})
+        private LocalDateTime nextRunAt;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        public static Response fromEntity(AiJob job) {
+            return Response.builder()
+                    .jobId(job.getId())
+                    .type(job.getType().name())
+                    .contentId(job.getContentId())
+                    .status(job.getStatus().name())
+                    .attempts(job.getAttempts())
+                    .lastError(job.getLastError())
+                    .result(job.getResult())
+                    .nextRunAt(job.getNextRunAt())
+                    .createdAt(job.getCreatedAt())
+                    .updatedAt(job.getUpdatedAt())
+                    .build();
+        }
+    }
+}
@@ -5,6 +5,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 public class ContentDto {
 
     // ============================================
@@ -20,6 +24,8 @@ public class ContentDto {
         private String status;      // 상태 (PROCESSING, COMPLETED, FAILED)
         private Integer totalChapters; // 감지된 총 챕터 수 (nullable 가능)
         private String vectorPath;
+        private String fileName;    // 원본 파일명 (다중 업로드 결과 식별용)
+        private String message;     // 실패 사유 (성공 시 null)
     }
 
     // ============================================
@@ -32,4 +38,47 @@ public class ContentDto {
     public static class StatusResponse {
         private String status;
     }
-}
\ No newline at end of file
+
+    // ============================================
+    // ✅ 처리 상태 스트림(SSE) 이벤트 DTO
+    // ============================================
+    @Getter
+    @AllArgsConstructor
+    public static class StatusEvent {
+        private Long contentId;
+        private String event;          // STATUS, CHAPTERS_DETECTED, SUMMARY_READY, QUIZ_READY
+        private String status;         // PROCESSING, COMPLETED, FAILED
+        private Integer totalChapters;
+        private Map<String, Object> detail;
+        private LocalDateTime timestamp;
+    }
+
+    // ============================================
+    // ✅ 이어받기(청크) 업로드 세션 생성 요청 DTO
+    // ============================================
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadSessionRequest {
+        private String fileName;    // 원본 파일명 (ex: textbook.pdf)
+        private String title;       // 파일 제목 (사용자 지정)
+        private Long totalSize;     // 전체 파일 크기 (byte)
+    }
+
+    // ============================================
+    // ✅ 이어받기(청크) 업로드 세션 상태 응답 DTO
+    // ============================================
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadSessionResponse {
+        private String uploadId;
+        private String fileName;
+        private Long totalSize;
+        private Long receivedBytes;
+        private List<long[]> receivedRanges; // [start, end) 구간 목록
+        private boolean complete;
+    }
+}
@@ -37,4 +37,14 @@ public class SummaryDto {
     public static class FullSummaryRequest {
         private List<String> pdf_paths;   // FastAPI에서 요구하는 PDF 경로 리스트
     }
+
+    // ==========================================================
+    // ✅ [4] 캐시된 요약 + ETag (조회 API 304 처리용)
+    // ==========================================================
+    @Getter
+    @AllArgsConstructor
+    public static class Cached {
+        private Response body;
+        private String etag;          // strong ETag ("..." 포함)
+    }
 }
@@ -0,0 +1,47 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/** OpenAI chat completions 응답 (퀴즈 정답/해설 보강) — 필요한 필드만 */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AiChatCompletionResponse {
+    private List<Choice> choices;
+
+    /** 첫 번째 choice의 message.content (없으면 null) */
+    public String firstContent() {
+        if (choices == null || choices.isEmpty()) return null;
+        Message message = choices.get(0).getMessage();
+        return message == null ? null : message.getContent();
+    }
+
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private Message message;
+    }
+
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Message {
+        private String content;
+    }
+
+    /** content 안의 JSON: {"correct_answer": "...", "explanation": "..."} */
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class QuizFix {
+        @JsonProperty("correct_answer")
+        private String correctAnswer;
+        private String explanation;
+    }
+}
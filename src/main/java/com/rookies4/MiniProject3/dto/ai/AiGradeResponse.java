@@ -0,0 +1,39 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Objects;
+
+/** FastAPI /quiz/grade 응답 */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AiGradeResponse {
+    @JsonProperty("final_total_score")
+    private Integer finalTotalScore;
+
+    private List<AiGradeResult> results;
+
+    public int correctCount() {
+        if (results == null) return 0;
+        return (int) results.stream().filter(Objects::nonNull).filter(AiGradeResult::isCorrectAnswer).count();
+    }
+
+    public int totalQuestions() {
+        if (results == null) return 0;
+        return (int) results.stream().filter(Objects::nonNull).count();
+    }
+
+    /** final_total_score가 없으면 문항 점수 합계 */
+    public int finalScore() {
+        if (finalTotalScore != null) return finalTotalScore;
+        if (results == null) return 0;
+        return results.stream().filter(Objects::nonNull)
+                .mapToInt(r -> r.getScore() != null ? r.getScore() : 0)
+                .sum();
+    }
+}
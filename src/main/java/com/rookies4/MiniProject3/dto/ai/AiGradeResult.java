@@ -0,0 +1,38 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** FastAPI /quiz/grade 문항별 결과 (채점에 쓰는 필드 외에는 그대로 보관 → 클라이언트에 전달) */
+@Getter
+@Setter
+public class AiGradeResult {
+    @JsonProperty("is_correct")
+    private Boolean correct;
+
+    private Integer score;
+
+    private final Map<String, Object> other = new LinkedHashMap<>();
+
+    @JsonAnySetter
+    public void setOther(String name, Object value) {
+        other.put(name, value);
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getOther() {
+        return other;
+    }
+
+    @JsonIgnore
+    public boolean isCorrectAnswer() {
+        return Boolean.TRUE.equals(correct);
+    }
+}
@@ -0,0 +1,18 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/** FastAPI 퀴즈 생성 응답의 문항 1개 (필드명은 버전별로 question / question_text / quiz_text 혼재) */
+@Getter
+@Setter
+public class AiQuizItem {
+    private String question;
+    private String questionText;
+    private String quizText;
+    private List<String> options;   // 배열 또는 {"A": "..."} 객체 → 값 목록
+    private String correctAnswer;
+    private String explanation;
+}
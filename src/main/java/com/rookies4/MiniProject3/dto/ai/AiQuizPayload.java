@@ -0,0 +1,15 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/** FastAPI 퀴즈 생성 응답: [ {...}, ... ] 또는 {"questions": [ {...}, ... ]} */
+@Getter
+@AllArgsConstructor
+@JsonDeserialize(using = AiQuizPayloadDeserializer.class)
+public class AiQuizPayload {
+    private List<AiQuizItem> questions;
+}
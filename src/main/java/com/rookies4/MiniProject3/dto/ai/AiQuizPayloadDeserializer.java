@@ -0,0 +1,94 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 퀴즈 응답 스트리밍 파서
+ * - Map/Object 트리를 만들지 않고 토큰을 읽으며 필요한 필드만 AiQuizItem에 채움
+ * - 모르는 필드/중첩 구조는 skipChildren()으로 건너뜀
+ */
+public class AiQuizPayloadDeserializer extends JsonDeserializer<AiQuizPayload> {
+
+    @Override
+    public AiQuizPayload deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        List<AiQuizItem> items = new ArrayList<>();
+        JsonToken token = p.currentToken();
+
+        if (token == JsonToken.START_ARRAY) {
+            readItems(p, items);
+        } else if (token == JsonToken.START_OBJECT) {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("questions".equals(field) && value == JsonToken.START_ARRAY) {
+                    readItems(p, items);
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        return new AiQuizPayload(items);
+    }
+
+    private void readItems(JsonParser p, List<AiQuizItem> items) throws IOException {
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                items.add(readItem(p));
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    private AiQuizItem readItem(JsonParser p) throws IOException {
+        AiQuizItem item = new AiQuizItem();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "question" -> item.setQuestion(text(p));
+                case "question_text" -> item.setQuestionText(text(p));
+                case "quiz_text" -> item.setQuizText(text(p));
+                case "options" -> item.setOptions(options(p));
+                case "correct_answer" -> item.setCorrectAnswer(text(p));
+                case "explanation" -> item.setExplanation(text(p));
+                default -> p.skipChildren();
+            }
+        }
+        return item;
+    }
+
+    /** 스칼라 값 → 문자열 (숫자/불리언 포함), 배열/객체는 무시 */
+    private String text(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) return null;
+        if (token.isScalarValue()) return p.getValueAsString();
+        p.skipChildren();
+        return null;
+    }
+
+    /** 보기: 배열이면 원소, 객체면 값 목록 */
+    private List<String> options(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token != JsonToken.START_ARRAY && token != JsonToken.START_OBJECT) {
+            return null;
+        }
+        JsonToken end = token == JsonToken.START_ARRAY ? JsonToken.END_ARRAY : JsonToken.END_OBJECT;
+        List<String> options = new ArrayList<>();
+        JsonToken next;
+        while ((next = p.nextToken()) != end && next != null) {
+            if (next == JsonToken.FIELD_NAME) continue;
+            String value = text(p);
+            if (value != null) options.add(value);
+        }
+        return options;
+    }
+}
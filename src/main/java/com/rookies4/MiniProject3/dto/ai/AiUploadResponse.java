@@ -0,0 +1,33 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/** FastAPI /upload_pdfs/ 응답 */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AiUploadResponse {
+    @JsonProperty("total_chapters")
+    private Integer totalChapters;
+
+    @JsonProperty("vector_path")
+    private String vectorPath;
+
+    @JsonProperty("created_vectors_for")
+    private List<String> createdVectorsFor;
+
+    public int totalChaptersOrZero() {
+        return totalChapters != null ? totalChapters : 0;
+    }
+
+    /** vector_path가 없으면 created_vectors_for 첫 항목 (둘 다 없으면 null) */
+    public String resolvedVectorPath() {
+        if (vectorPath != null) return vectorPath;
+        return createdVectorsFor != null && !createdVectorsFor.isEmpty() ? createdVectorsFor.get(0) : null;
+    }
+}
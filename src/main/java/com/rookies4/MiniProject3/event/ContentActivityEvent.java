@@ -0,0 +1,29 @@
+package com.rookies4.MiniProject3.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 콘텐츠 부가 결과물 생성 알림 (요약/퀴즈 저장 완료)
+ * - 상태 스트림(SSE) 구독자에게 "summary ready", "quiz ready" 전달용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ContentActivityEvent {
+
+    public enum Type { SUMMARY_READY, QUIZ_READY }
+
+    private final Long contentId;
+    private final Type type;
+    private final Map<String, Object> detail;
+
+    public static ContentActivityEvent summaryReady(Long contentId, String scope, int count) {
+        return new ContentActivityEvent(contentId, Type.SUMMARY_READY, Map.of("scope", scope, "count", count));
+    }
+
+    public static ContentActivityEvent quizReady(Long contentId, int batch, int count) {
+        return new ContentActivityEvent(contentId, Type.QUIZ_READY, Map.of("batch", batch, "count", count));
+    }
+}
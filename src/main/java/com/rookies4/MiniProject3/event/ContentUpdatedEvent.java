@@ -0,0 +1,31 @@
+package com.rookies4.MiniProject3.event;
+
+import com.rookies4.MiniProject3.domain.enums.ContentStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Content 행에 반영할 처리 결과 (벡터 경로, 챕터 수, 상태)
+ * - 백그라운드 벡터화 워커 / FastAPI 외부 콜백(PATCH vector-path)이 발행
+ * - null 필드는 변경하지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class ContentUpdatedEvent {
+    private final Long contentId;
+    private final ContentStatus status;
+    private final String vectorPath;
+    private final Integer totalChapters;
+
+    public static ContentUpdatedEvent vectorized(Long contentId, int totalChapters, String vectorPath) {
+        return new ContentUpdatedEvent(contentId, ContentStatus.COMPLETED, vectorPath, totalChapters);
+    }
+
+    public static ContentUpdatedEvent failed(Long contentId) {
+        return new ContentUpdatedEvent(contentId, ContentStatus.FAILED, null, null);
+    }
+
+    public static ContentUpdatedEvent vectorPath(Long contentId, String vectorPath) {
+        return new ContentUpdatedEvent(contentId, null, vectorPath, null);
+    }
+}
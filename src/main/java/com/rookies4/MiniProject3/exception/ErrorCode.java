@@ -16,6 +16,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "[ERROR] 서버 내부에 오류가 발생했습니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "[ERROR] 해당 기능에 대한 접근 권한이 없습니다."),
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "BAD_REQUEST", "[ERROR] 잘못된 요청입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "[ERROR] 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     // ==========================================================
     // ✅ Token / Auth
@@ -37,6 +38,12 @@ public enum ErrorCode {
     FILE_NOT_ATTACHED(HttpStatus.BAD_REQUEST, "FILE_NOT_ATTACHED", "[ERROR] 처리할 파일을 첨부해주세요."),
     CONTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CONTENT_NOT_FOUND", "[ERROR] 해당 콘텐츠를 찾을 수 없습니다."),
     PROCESSING_NOT_COMPLETED(HttpStatus.CONFLICT, "PROCESSING_NOT_COMPLETED", "[ERROR] 콘텐츠 처리가 아직 완료되지 않았습니다."),
+    UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "UPLOAD_SESSION_NOT_FOUND", "[ERROR] 업로드 세션을 찾을 수 없거나 만료되었습니다."),
+    INVALID_CHUNK_RANGE(HttpStatus.BAD_REQUEST, "INVALID_CHUNK_RANGE", "[ERROR] 청크 위치(offset) 또는 길이가 올바르지 않습니다."),
+    UPLOAD_NOT_COMPLETE(HttpStatus.CONFLICT, "UPLOAD_NOT_COMPLETE", "[ERROR] 아직 모든 청크가 업로드되지 않았습니다."),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "FILE_TOO_LARGE", "[ERROR] 허용된 파일 크기를 초과했습니다."),
+    TOO_MANY_UPLOAD_SESSIONS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_UPLOAD_SESSIONS", "[ERROR] 진행 중인 업로드가 너무 많습니다. 기존 업로드를 완료하거나 취소해 주세요."),
+    UPLOAD_COMMIT_IN_PROGRESS(HttpStatus.CONFLICT, "UPLOAD_COMMIT_IN_PROGRESS", "[ERROR] 업로드 완료 처리가 진행 중입니다."),
 
     // ==========================================================
     // ✅ Summary
@@ -49,6 +56,13 @@ public enum ErrorCode {
     QUIZ_NOT_FOUND(HttpStatus.NOT_FOUND, "QUIZ_NOT_FOUND", "[ERROR] 해당 퀴즈를 찾을 수 없습니다."),
     QUIZ_GENERATION_FAILED(HttpStatus.BAD_REQUEST, "QUIZ_GENERATION_FAILED", "[ERROR] 퀴즈 생성에 실패했습니다."),
     AI_SERVER_COMMUNICATION_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "AI_SERVER_COMMUNICATION_ERROR", "[ERROR] AI 서버와의 통신에 실패했습니다."),
+    AI_SERVER_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "AI_SERVER_CIRCUIT_OPEN", "[ERROR] AI 서버 장애로 요청을 일시 차단했습니다. 잠시 후 다시 시도해 주세요."),
+    AI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI_SERVER_BUSY", "[ERROR] AI 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+
+    // ==========================================================
+    // ✅ AI Job Queue
+    // ==========================================================
+    JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "JOB_NOT_FOUND", "[ERROR] 해당 작업을 찾을 수 없습니다."),
 
     // ==========================================================
     // ✅ DB / Server
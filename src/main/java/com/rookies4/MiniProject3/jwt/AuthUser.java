@@ -0,0 +1,24 @@
+package com.rookies4.MiniProject3.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증 사용자 principal (email + DB id)
+ * - 로그인: CustomUserDetailsService가 id를 채워 생성
+ * - 요청 인증: JwtTokenProvider가 access token의 "uid" 클레임으로 생성 (DB 조회 없음)
+ * - uid 클레임이 없는 이전 토큰은 id가 null → UserIdResolver가 email로 보완
+ */
+@Getter
+public class AuthUser extends User {
+
+    private final Long id;
+
+    public AuthUser(Long id, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.id = id;
+    }
+}
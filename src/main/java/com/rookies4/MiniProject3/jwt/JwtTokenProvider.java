@@ -1,23 +1,35 @@
 package com.rookies4.MiniProject3.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.rookies4.MiniProject3.dto.AuthDto;
+import com.rookies4.MiniProject3.service.UserIdResolver;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
@@ -25,12 +37,31 @@ public class JwtTokenProvider {
 
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30L; // 30분
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60L * 24 * 7; // 7일
+    private static final String USER_ID_CLAIM = "uid";
 
     private final SecretKey key;
+    private final JwtParser parser; // 불변·thread-safe → 1회 생성 후 재사용
+    private final UserIdResolver userIdResolver;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    // 서명 검증된 access token claims 캐시 (key: 토큰 SHA-256, 토큰 exp 시각에 만료)
+    private final Cache<String, Claims> verifiedClaims;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize,
+                            @Value("${jwt.claims-cache.max-ttl:30m}") Duration claimsCacheMaxTtl,
+                            UserIdResolver userIdResolver,
+                            MeterRegistry meterRegistry) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.userIdResolver = userIdResolver;
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(expireAtTokenExp(claimsCacheMaxTtl))
+                .executor(Runnable::run) // 만료/제거 정리를 호출 스레드에서 (공용 풀 작업 제출 비용 제거)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwt.claims");
     }
 
     // AccessToken, RefreshToken 생성
@@ -40,6 +71,11 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
+        // 사용자 id (로그인 시 principal에 포함, 이전 토큰 재발급 시에만 email로 조회)
+        Long userId = authentication.getPrincipal() instanceof UserDetails details
+                ? userIdResolver.resolve(details).orElse(null)
+                : userIdResolver.resolve(authentication.getName()).orElse(null);
+
         long now = (new Date()).getTime();
 
         // Access Token 생성
@@ -47,6 +83,7 @@ public class JwtTokenProvider {
         String accessToken = Jwts.builder()
                 .setSubject(authentication.getName())
                 .claim("auth", authorities)
+                .claim(USER_ID_CLAIM, userId)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key)
                 .compact();
@@ -65,10 +102,27 @@ public class JwtTokenProvider {
                 .build();
     }
 
-    // 토큰에서 인증 정보 가져오기
+    // 요청 인증: 캐시 hit → 검증 생략, miss → 1회 파싱(서명·만료 검증) 후 캐시
+    public Optional<Authentication> authenticate(String accessToken) {
+        String cacheKey = tokenHash(accessToken);
+        Claims claims = verifiedClaims.getIfPresent(cacheKey);
+        if (claims == null) {
+            try {
+                claims = parser.parseSignedClaims(accessToken).getPayload();
+            } catch (Exception e) {
+                return Optional.empty(); // 실패한 토큰은 캐시하지 않음
+            }
+            verifiedClaims.put(cacheKey, claims);
+        }
+        return Optional.of(toAuthentication(claims));
+    }
+
+    // 토큰에서 인증 정보 가져오기 (만료된 토큰 허용: 재발급용)
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return toAuthentication(parseClaims(accessToken));
+    }
 
+    private Authentication toAuthentication(Claims claims) {
         // auth claim 체크
         Object authClaim = claims.get("auth");
         Collection<? extends GrantedAuthority> authorities;
@@ -88,14 +142,15 @@ public class JwtTokenProvider {
             }
         }
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        Long userId = claims.get(USER_ID_CLAIM) instanceof Number n ? n.longValue() : null;
+        UserDetails principal = new AuthUser(userId, claims.getSubject(), "", authorities);
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -104,9 +159,43 @@ public class JwtTokenProvider {
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken).getPayload();
+            return parser.parseSignedClaims(accessToken).getPayload();
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    // 캐시 항목 만료 = 토큰 exp (exp 없으면 maxTtl 상한)
+    private static Expiry<String, Claims> expireAtTokenExp(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                long maxNanos = maxTtl.toNanos();
+                Date exp = claims.getExpiration();
+                if (exp == null) return maxNanos;
+                long remainingMillis = exp.getTime() - System.currentTimeMillis();
+                return Math.max(0, Math.min(maxNanos, Duration.ofMillis(remainingMillis).toNanos()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, claims, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    // 원본 토큰을 메모리에 보관하지 않도록 해시를 키로 사용
+    private static String tokenHash(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
\ No newline at end of file
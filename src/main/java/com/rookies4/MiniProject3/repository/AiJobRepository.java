@@ -0,0 +1,55 @@
+package com.rookies4.MiniProject3.repository;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.enums.AiJobStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AiJobRepository extends JpaRepository<AiJob, Long> {
+
+    /**
+     * ✅ 실행 가능한 작업을 행 잠금(SELECT ... FOR UPDATE SKIP LOCKED)으로 점유
+     * - lock.timeout = -2 → Hibernate가 SKIP LOCKED로 변환 (여러 인스턴스가 같은 행을 가져가지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select j from AiJob j where j.status = :status and j.nextRunAt <= :now order by j.nextRunAt asc, j.id asc")
+    List<AiJob> findClaimable(@Param("status") AiJobStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /** ✅ lease가 만료된 RUNNING 작업(워커/JVM 중단)을 다시 PENDING으로 */
+    @Modifying
+    @Query("update AiJob j set j.status = com.rookies4.MiniProject3.domain.enums.AiJobStatus.PENDING, " +
+            "j.lockedBy = null, j.lockedAt = null, j.nextRunAt = :now " +
+            "where j.status = com.rookies4.MiniProject3.domain.enums.AiJobStatus.RUNNING and j.lockedAt < :threshold")
+    int releaseExpiredLeases(@Param("threshold") LocalDateTime threshold, @Param("now") LocalDateTime now);
+
+    /**
+     * ✅ 이 워커가 아직 점유 중인 RUNNING 작업만 행 잠금으로 조회 (결과 반영용 fencing)
+     * - lease 만료로 다른 워커에 재점유된 작업이면 empty → 늦게 끝난 워커의 결과는 버림
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from AiJob j where j.id = :id and j.lockedBy = :workerId " +
+            "and j.status = com.rookies4.MiniProject3.domain.enums.AiJobStatus.RUNNING")
+    Optional<AiJob> findOwned(@Param("id") Long id, @Param("workerId") String workerId);
+
+    /** ✅ 실행 중인 작업의 lease 연장 (heartbeat) */
+    @Modifying
+    @Query("update AiJob j set j.lockedAt = :now " +
+            "where j.id in :ids and j.lockedBy = :workerId " +
+            "and j.status = com.rookies4.MiniProject3.domain.enums.AiJobStatus.RUNNING")
+    int renewLeases(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId, @Param("now") LocalDateTime now);
+
+    long countByStatus(AiJobStatus status);
+}
@@ -1,10 +1,16 @@
 package com.rookies4.MiniProject3.repository;
 
 import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.enums.ContentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ContentRepository extends JpaRepository<Content, Long> {
@@ -14,4 +20,12 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
 
     /** ✅ 더 편리한 방식 (userId로 바로 조회 가능) */
     List<Content> findByUser_Id(Long userId);  // user.id 기준으로 탐색
+
+    /** ✅ 같은 파일 내용(SHA-256)으로 이미 처리가 끝난 콘텐츠 (벡터 재사용용) */
+    Optional<Content> findFirstByContentHashAndStatusOrderByIdAsc(String contentHash, ContentStatus status);
+
+    /** ✅ 콘텐츠 행 잠금 (SELECT ... FOR UPDATE) → 퀴즈 회차 번호 할당을 인스턴스 간 직렬화 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Content c where c.id = :id")
+    Optional<Content> findByIdForUpdate(@Param("id") Long id);
 }
@@ -12,5 +12,8 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
 
     Optional<Summary> findByContentIdAndChapter(Long contentId, Integer chapter);
 
+    // 유니크 제약 이전에 쌓인 중복 행이 있어도 동작하도록 전체 조회 (upsert 시 정리)
+    List<Summary> findAllByContentIdAndChapterOrderByIdAsc(Long contentId, Integer chapter);
+
     List<Summary> findByContentIdOrderByChapterAsc(Long contentId);
 }
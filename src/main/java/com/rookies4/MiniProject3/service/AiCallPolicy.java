@@ -0,0 +1,197 @@
+package com.rookies4.MiniProject3.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 FastAPI 호출용 재시도 + 헤징 정책 (RetryBudget 공유)
+ * - 재시도: 연결 단계 오류(연결 거부/타임아웃, DNS 실패, 요청 전송 중 끊김)만, 지수 백오프 + 지터
+ *   (응답 타임아웃도 WebClientRequestException으로 오지만 FastAPI가 이미 처리 중이므로 재시도하지 않음)
+ * - 헤징: hedge delay 안에 응답이 없으면 같은 요청을 1회 더 보내고 먼저 온 응답 사용 (나머지는 취소)
+ *   hedge delay = 최근 성공 응답 지연의 p{percentile} (표본 부족 시 고정값)
+ * - 메트릭: ai.retry.attempts, ai.hedge.fired, ai.hedge.won, ai.hedge.delay
+ */
+@Slf4j
+@Component
+public class AiCallPolicy {
+
+    private static final int WINDOW_SIZE = 256;
+    private static final int MIN_SAMPLES = 20;
+    private static final String HEDGED = AiCallPolicy.class.getName() + ".hedged";
+
+    private final RetryBudget budget;
+    private final MeterRegistry meterRegistry;
+
+    // 재시도
+    private final int retryMaxAttempts;
+    private final Duration retryInitialBackoff;
+    private final Duration retryMaxBackoff;
+    private final double retryJitter;
+
+    // 헤징
+    private final boolean hedgeEnabled;
+    private final Duration hedgeDefaultDelay;
+    private final Duration hedgeMinDelay;
+    private final Duration hedgeMaxDelay;
+    private final double hedgePercentile;
+
+    // 최근 성공 응답 지연 (ms, 링 버퍼)
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private final AtomicLong samples = new AtomicLong();
+
+    public AiCallPolicy(RetryBudget budget,
+                        MeterRegistry meterRegistry,
+                        @Value("${ai.retry.max-attempts:2}") int retryMaxAttempts,
+                        @Value("${ai.retry.initial-backoff:200ms}") Duration retryInitialBackoff,
+                        @Value("${ai.retry.max-backoff:2s}") Duration retryMaxBackoff,
+                        @Value("${ai.retry.jitter:0.5}") double retryJitter,
+                        @Value("${ai.hedge.enabled:false}") boolean hedgeEnabled,
+                        @Value("${ai.hedge.delay:3s}") Duration hedgeDefaultDelay,
+                        @Value("${ai.hedge.min-delay:300ms}") Duration hedgeMinDelay,
+                        @Value("${ai.hedge.max-delay:20s}") Duration hedgeMaxDelay,
+                        @Value("${ai.hedge.percentile:0.9}") double hedgePercentile) {
+        this.budget = budget;
+        this.meterRegistry = meterRegistry;
+        this.retryMaxAttempts = Math.max(0, retryMaxAttempts);
+        this.retryInitialBackoff = retryInitialBackoff;
+        this.retryMaxBackoff = retryMaxBackoff;
+        this.retryJitter = Math.min(1.0, Math.max(0.0, retryJitter));
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeDefaultDelay = hedgeDefaultDelay;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeMaxDelay = hedgeMaxDelay;
+        this.hedgePercentile = Math.min(1.0, Math.max(0.0, hedgePercentile));
+
+        Gauge.builder("ai.hedge.delay", this, p -> p.hedgeDelay().toMillis())
+                .description("현재 헤지 지연 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    // ==========================================================
+    // ✅ 재시도 (연결 오류만, 예산 내에서)
+    //  - guard() 바깥에 두어 매 시도가 서킷브레이커/벌크헤드를 통과하도록 함
+    // ==========================================================
+    public <T> Function<Mono<T>, Mono<T>> retryOnConnectionError(String name) {
+        Counter attempts = Counter.builder("ai.retry.attempts")
+                .tag("operation", name)
+                .register(meterRegistry);
+        Retry retry = Retry.backoff(retryMaxAttempts, retryInitialBackoff)
+                .maxBackoff(retryMaxBackoff)
+                .jitter(retryJitter)
+                .filter(e -> isConnectionError(e) && budget.tryAcquire())
+                .doBeforeRetry(signal -> {
+                    attempts.increment();
+                    log.warn("🔁 FastAPI 재시도 | op={} | attempt={} | cause={}",
+                            name, signal.totalRetries() + 1, signal.failure().getMessage());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+        // 예산 적립은 원 요청만 (헤지 복제 요청은 제외)
+        return call -> Mono.deferContextual(ctx -> {
+            if (!ctx.hasKey(HEDGED)) budget.recordRequest();
+            return call.retryWhen(retry);
+        });
+    }
+
+    /** 요청이 FastAPI에 전달되기 전에 실패한 경우만 true (응답 타임아웃/응답 중 끊김은 false) */
+    static boolean isConnectionError(Throwable e) {
+        if (!(e instanceof WebClientRequestException)) return false;
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            // ConnectException: 연결 거부 + Netty ConnectTimeoutException
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) return true;
+            if (cause instanceof PrematureCloseException) {
+                String message = cause.getMessage();
+                return message != null && message.contains("while sending request");
+            }
+        }
+        return false;
+    }
+
+    // ==========================================================
+    // ✅ 헤징 (ai.hedge.enabled=true 일 때)
+    //  - 원 요청이 hedge delay 전에 실패하면 헤지 없이 바로 실패
+    //  - 예산 부족 시 헤지 생략
+    // ==========================================================
+    public <T> Mono<T> hedge(String name, Supplier<Mono<T>> call) {
+        if (!hedgeEnabled) {
+            return timed(Mono.defer(call));
+        }
+        return Mono.defer(() -> {
+            Duration delay = hedgeDelay();
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+
+            Mono<T> primary = timed(Mono.defer(call))
+                    .doOnError(e -> primaryFailed.tryEmitEmpty());
+
+            Mono<T> hedged = Mono.delay(delay)
+                    .flux()
+                    .takeUntilOther(primaryFailed.asMono())
+                    .next()
+                    .filter(tick -> budget.tryAcquire())
+                    .flatMap(tick -> {
+                        counter("ai.hedge.fired", name).increment();
+                        log.info("🪁 헤지 요청 발사 | op={} | delay={}ms", name, delay.toMillis());
+                        return timed(Mono.defer(call))
+                                .contextWrite(ctx -> ctx.put(HEDGED, true))
+                                .doOnNext(v -> counter("ai.hedge.won", name).increment());
+                    });
+
+            return Mono.firstWithValue(primary, hedged)
+                    // 두 경로 모두 실패/무응답 → 원래 오류를 그대로 전달
+                    .onErrorMap(NoSuchElementException.class, AiCallPolicy::unwrapFirstFailure);
+        });
+    }
+
+    /** 현재 헤지 지연: 최근 성공 지연의 percentile (min~max 범위로 제한) */
+    public Duration hedgeDelay() {
+        long count = Math.min(samples.get(), WINDOW_SIZE);
+        if (count < MIN_SAMPLES) return hedgeDefaultDelay;
+
+        long[] snapshot = Arrays.copyOf(latencies, (int) count);
+        Arrays.sort(snapshot);
+        int index = (int) Math.min(count - 1, Math.ceil(hedgePercentile * count) - 1);
+        long millis = snapshot[Math.max(0, index)];
+        millis = Math.max(hedgeMinDelay.toMillis(), Math.min(hedgeMaxDelay.toMillis(), millis));
+        return Duration.ofMillis(millis);
+    }
+
+    private <T> Mono<T> timed(Mono<T> call) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return call.doOnNext(v -> {
+                long slot = samples.getAndIncrement() % WINDOW_SIZE;
+                latencies[(int) slot] = (System.nanoTime() - startedAt) / 1_000_000;
+            });
+        });
+    }
+
+    private Counter counter(String metric, String name) {
+        return Counter.builder(metric).tag("operation", name).register(meterRegistry);
+    }
+
+    private static Throwable unwrapFirstFailure(NoSuchElementException e) {
+        for (Throwable suppressed : e.getSuppressed()) {
+            return Exceptions.unwrap(suppressed);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,150 @@
+package com.rookies4.MiniProject3.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.config.AiPayloadLogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AI 호출 요청/응답 페이로드 로깅
+ * - 전용 로거(ai.payload) INFO가 꺼져 있거나 샘플링에서 빠지면 직렬화 자체를 하지 않음
+ * - 공유 ObjectMapper로 직렬화하되 maxBytes 까지만 버퍼에 담음 (큰 응답도 전체 복사 없음)
+ * - maxBytes는 MAX_BYTES_LIMIT 이하로 제한, 버퍼는 실제 쓴 만큼만 키움
+ * - 엔드포인트별 샘플링 비율은 런타임에 변경 가능 (AiPayloadLogEndpoint, 운영자 전용)
+ */
+@Component
+@EnableConfigurationProperties(AiPayloadLogProperties.class)
+public class AiPayloadLogger {
+
+    private static final Logger payloadLog = LoggerFactory.getLogger("ai.payload");
+    /** 로그 1건당 페이로드 상한 (설정/런타임 변경 모두 이 값으로 잘림) */
+    static final int MAX_BYTES_LIMIT = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Double> sampleRates = new ConcurrentHashMap<>();
+    private volatile double defaultSampleRate;
+    private volatile int maxBytes;
+
+    public AiPayloadLogger(ObjectMapper objectMapper, AiPayloadLogProperties properties) {
+        this.objectMapper = objectMapper;
+        this.defaultSampleRate = clamp(properties.getDefaultSampleRate());
+        this.maxBytes = clampBytes(properties.getMaxBytes());
+        properties.getSampleRates().forEach((endpoint, rate) -> sampleRates.put(endpoint, clamp(rate)));
+    }
+
+    // ==========================================================
+    // ✅ 페이로드 로깅 (direction: request / response)
+    // ==========================================================
+    public void log(String endpoint, String direction, Object payload) {
+        if (payload == null || !shouldLog(endpoint)) return;
+        payloadLog.info("📦 [{}:{}] {}", endpoint, direction, serialize(payload));
+    }
+
+    /** 로거 레벨 + 샘플링 판정 (직렬화 전에 호출) */
+    public boolean shouldLog(String endpoint) {
+        if (!payloadLog.isInfoEnabled()) return false;
+        double rate = sampleRates.getOrDefault(endpoint, defaultSampleRate);
+        if (rate <= 0.0) return false;
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private String serialize(Object payload) {
+        CappedOutputStream out = new CappedOutputStream(maxBytes);
+        try {
+            if (payload instanceof CharSequence text) {
+                out.write(text.toString().getBytes(StandardCharsets.UTF_8));
+            } else {
+                objectMapper.writeValue(out, payload);
+            }
+        } catch (Exception e) {
+            return "(직렬화 실패: " + e.getClass().getSimpleName() + ")";
+        }
+        String body = new String(out.buffer, 0, out.size, StandardCharsets.UTF_8);
+        return out.total > out.size
+                ? body + "…(+" + (out.total - out.size) + " bytes)"
+                : body;
+    }
+
+    // ==========================================================
+    // ✅ 런타임 설정 (actuator)
+    // ==========================================================
+    public Map<String, Object> settings() {
+        return Map.of(
+                "maxBytes", maxBytes,
+                "defaultSampleRate", defaultSampleRate,
+                "sampleRates", new TreeMap<>(sampleRates)
+        );
+    }
+
+    public void setSampleRate(String endpoint, double rate) {
+        if (endpoint == null || endpoint.isBlank() || "default".equals(endpoint)) {
+            defaultSampleRate = clamp(rate);
+        } else {
+            sampleRates.put(endpoint, clamp(rate));
+        }
+    }
+
+    public void setMaxBytes(int maxBytes) {
+        this.maxBytes = clampBytes(maxBytes);
+    }
+
+    private static int clampBytes(int bytes) {
+        return Math.min(MAX_BYTES_LIMIT, Math.max(0, bytes));
+    }
+
+    private static double clamp(Double rate) {
+        if (rate == null || rate.isNaN()) return 0.0;
+        return Math.min(1.0, Math.max(0.0, rate));
+    }
+
+    /** cap 바이트까지만 보관하고 나머지는 길이만 센다 (버퍼는 필요할 때 2배씩, 최대 cap까지 확장) */
+    private static final class CappedOutputStream extends OutputStream {
+        private static final int INITIAL_CAPACITY = 256;
+
+        private final int cap;
+        private byte[] buffer;
+        private int size;
+        private long total;
+
+        CappedOutputStream(int cap) {
+            this.cap = cap;
+            this.buffer = new byte[Math.min(cap, INITIAL_CAPACITY)];
+        }
+
+        @Override
+        public void write(int b) {
+            if (size < cap) {
+                ensureCapacity(size + 1);
+                buffer[size++] = (byte) b;
+            }
+            total++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int n = Math.min(len, cap - size);
+            if (n > 0) {
+                ensureCapacity(size + n);
+                System.arraycopy(b, off, buffer, size, n);
+                size += n;
+            }
+            total += len;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= buffer.length) return;
+            int grown = Math.max(required, Math.min(cap, buffer.length * 2));
+            buffer = Arrays.copyOf(buffer, grown);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.rookies4.MiniProject3.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * RAG 질문 답변 캐시
+ * - 키: (contentId, 정규화 질문, forceWeb) / TTL + 최대 개수 제한 (Caffeine)
+ * - 정규화: NFKC, 소문자, 구두점/기호 제거, 공백 정리
+ * - 선택: SimHash 근사 일치 (같은 콘텐츠 내 해밍 거리 ≤ max-distance 인 질문의 답변 재사용)
+ * - 콘텐츠 vectorPath 변경 시 해당 콘텐츠 항목 전체 무효화
+ *   (콘텐츠별 세대 번호: 호출 전 읽은 세대가 저장 시점과 다르면 이전 인덱스로 만든 답변이므로 버림)
+ * - 메트릭: cache.gets{cache=ai.answer, result=hit|miss}, ai.answer.cache.hit.ratio
+ */
+@Slf4j
+@Component
+public class AnswerCache {
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{P}\\p{S}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Cache<Key, String> cache;
+    // 콘텐츠별 키 → SimHash 지문 (근사 일치 탐색 / 콘텐츠 단위 무효화용)
+    private final Map<Long, Map<Key, Long>> index = new ConcurrentHashMap<>();
+    // 콘텐츠별 무효화 세대 (무효화된 적 없으면 0)
+    private final ConcurrentHashMap<Long, Long> generations = new ConcurrentHashMap<>();
+
+    private final boolean simHashEnabled;
+    private final int simHashMaxDistance;
+
+    public AnswerCache(@Value("${ai.answer-cache.max-size:5000}") long maxSize,
+                       @Value("${ai.answer-cache.ttl:6h}") Duration ttl,
+                       @Value("${ai.answer-cache.simhash.enabled:false}") boolean simHashEnabled,
+                       @Value("${ai.answer-cache.simhash.max-distance:10}") int simHashMaxDistance,
+                       MeterRegistry meterRegistry) {
+        this.simHashEnabled = simHashEnabled;
+        this.simHashMaxDistance = simHashMaxDistance;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(Runnable::run)
+                .removalListener((Key key, String value, RemovalCause cause) -> {
+                    // 같은 키 재저장(REPLACED)은 색인 유지
+                    if (key != null && cause != RemovalCause.REPLACED) unindex(key);
+                })
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.answer");
+        Gauge.builder("ai.answer.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("질문 답변 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    // ==========================================================
+    // ✅ 조회 / 저장
+    // ==========================================================
+    public Optional<String> get(Long contentId, String question, boolean forceWeb) {
+        Key key = key(contentId, question, forceWeb);
+        String answer = cache.getIfPresent(key);
+        if (answer != null || !simHashEnabled) {
+            return Optional.ofNullable(answer);
+        }
+
+        // 근사 일치: 같은 콘텐츠/forceWeb 안에서 지문이 가장 가까운 질문
+        Map<Key, Long> entries = index.get(contentId);
+        if (entries == null) return Optional.empty();
+        long fingerprint = simHash(key.question());
+        Key nearest = null;
+        int best = simHashMaxDistance + 1;
+        for (Map.Entry<Key, Long> e : entries.entrySet()) {
+            if (e.getKey().forceWeb() != forceWeb) continue;
+            int distance = Long.bitCount(e.getValue() ^ fingerprint);
+            if (distance < best) {
+                best = distance;
+                nearest = e.getKey();
+            }
+        }
+        if (nearest == null) return Optional.empty();
+
+        String near = cache.asMap().get(nearest); // 통계에 중복 집계하지 않도록 asMap 조회
+        if (near != null) {
+            log.info("♻️ 유사 질문 답변 재사용 | contentId={} | distance={}", contentId, best);
+        }
+        return Optional.ofNullable(near);
+    }
+
+    /** FastAPI 호출 전에 읽어 두고 {@link #put}에 그대로 전달 */
+    public long generation(Long contentId) {
+        return generations.getOrDefault(contentId, 0L);
+    }
+
+    /**
+     * 답변 저장
+     * @param generation 호출 전에 읽은 {@link #generation} — 그 사이 무효화되었으면 저장하지 않음
+     */
+    public void put(Long contentId, String question, boolean forceWeb, String answer, long generation) {
+        if (answer == null || answer.isBlank()) return;
+        Key key = key(contentId, question, forceWeb);
+        if (key.question().isEmpty()) return;
+        // 세대 확인과 저장을 invalidate의 세대 증가와 직렬화 (확인 직후 무효화되어도 저장분은 뒤이은 제거에 포함됨)
+        generations.compute(contentId, (id, current) -> {
+            if ((current == null ? 0L : current) != generation) {
+                log.info("⏭️ 무효화 이후 도착한 답변 저장 생략 | contentId={}", contentId);
+                return current;
+            }
+            cache.put(key, answer);
+            index.computeIfAbsent(contentId, i -> new ConcurrentHashMap<>())
+                    .put(key, simHashEnabled ? simHash(key.question()) : 0L);
+            return current;
+        });
+    }
+
+    // ==========================================================
+    // ✅ 무효화: 벡터 인덱스가 바뀌면 이전 답변은 더 이상 유효하지 않음
+    // ==========================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentUpdated(ContentUpdatedEvent event) {
+        if (event.getVectorPath() == null) return;
+        invalidate(event.getContentId());
+    }
+
+    public void invalidate(Long contentId) {
+        generations.merge(contentId, 1L, Long::sum);
+        index.remove(contentId);
+        // 색인과 무관하게 캐시 본체에서 직접 제거 (드물게 발생하므로 전체 순회 허용)
+        boolean removed = cache.asMap().keySet().removeIf(key -> key.contentId().equals(contentId));
+        if (removed) {
+            log.info("🧹 답변 캐시 무효화 | contentId={}", contentId);
+        }
+    }
+
+    private void unindex(Key key) {
+        index.computeIfPresent(key.contentId(), (id, entries) -> {
+            entries.remove(key);
+            return entries.isEmpty() ? null : entries;
+        });
+    }
+
+    // ==========================================================
+    // 정규화 / SimHash
+    // ==========================================================
+    static String normalize(String question) {
+        if (question == null) return "";
+        String text = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        text = PUNCTUATION.matcher(text).replaceAll(" ");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    /** 공백 제거 문자 3-gram 기반 64비트 SimHash (조사/띄어쓰기 차이에 둔감) */
+    static long simHash(String normalized) {
+        String text = normalized.replace(" ", "");
+        if (text.length() < 3) return mix(text.hashCode());
+
+        int[] weights = new int[64];
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            long h = mix(text.substring(i, i + 3).hashCode());
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((h >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) fingerprint |= 1L << bit;
+        }
+        return fingerprint;
+    }
+
+    /** 32비트 해시 → 64비트 확산 (splitmix64 finalizer) */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static Key key(Long contentId, String question, boolean forceWeb) {
+        return new Key(contentId, normalize(question), forceWeb);
+    }
+
+    private record Key(Long contentId, String question, boolean forceWeb) {
+    }
+}
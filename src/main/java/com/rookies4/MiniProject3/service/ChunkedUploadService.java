@@ -0,0 +1,282 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이어받기(resumable) 청크 업로드
+ * - 세션 생성 시 전체 크기만큼 부분 파일을 미리 할당
+ * - 각 청크는 offset 위치에 그대로 기록 (순서 무관, 재전송 허용)
+ * - 모든 구간이 채워지면 commit → 일반 업로드와 같은 Content 생성 경로로 전달
+ * - commit 실패 시 세션을 유지 → 클라이언트가 commit 재시도 가능 (완료된 단계는 건너뜀)
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private final FileStorageService fileStorageService;
+    private final ContentService contentService;
+    private final ProgressService progressService;
+    private final long maxFileSize;
+    private final long maxChunkSize;
+    private final Duration sessionTtl;
+    private final int maxSessionsPerUser;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(FileStorageService fileStorageService,
+                                ContentService contentService,
+                                ProgressService progressService,
+                                @Value("${content.upload.chunked.max-file-size:200MB}") DataSize maxFileSize,
+                                @Value("${content.upload.chunked.max-chunk-size:8MB}") DataSize maxChunkSize,
+                                @Value("${content.upload.chunked.session-ttl:24h}") Duration sessionTtl,
+                                @Value("${content.upload.chunked.max-sessions-per-user:3}") int maxSessionsPerUser) {
+        this.fileStorageService = fileStorageService;
+        this.contentService = contentService;
+        this.progressService = progressService;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxChunkSize = maxChunkSize.toBytes();
+        this.sessionTtl = sessionTtl;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    // ==========================================================
+    // 1) 세션 생성
+    // ==========================================================
+    public ContentDto.UploadSessionResponse createSession(Long userId, ContentDto.UploadSessionRequest request) {
+        if (request == null || !StringUtils.hasText(request.getFileName()) || !request.getFileName().contains(".")
+                || !StringUtils.hasText(request.getTitle()) || request.getTotalSize() == null || request.getTotalSize() <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        if (request.getTotalSize() > maxFileSize) {
+            throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        UploadSession session;
+        // 사용자별 세션 수 확인 ~ 등록을 원자적으로 (동시 생성으로 상한 초과 방지)
+        synchronized (sessions) {
+            long open = sessions.values().stream().filter(s -> s.userId.equals(userId)).count();
+            if (open >= maxSessionsPerUser) {
+                throw new CustomException(ErrorCode.TOO_MANY_UPLOAD_SESSIONS);
+            }
+            Path partial = fileStorageService.preallocate(uploadId, request.getTotalSize());
+            session = new UploadSession(uploadId, userId, request.getTitle(),
+                    StringUtils.cleanPath(request.getFileName()), request.getTotalSize(), partial);
+            sessions.put(uploadId, session);
+        }
+
+        log.info("📥 청크 업로드 세션 생성 | uploadId={} | userId={} | file={} | size={}",
+                uploadId, userId, session.fileName, session.totalSize);
+        return toResponse(session);
+    }
+
+    // ==========================================================
+    // 2) 청크 기록
+    //  - length < 0 (Transfer-Encoding: chunked, Content-Length 없음)
+    //    → 남은 구간(최대 청크 크기)까지만 읽고, 그보다 길면 거부
+    // ==========================================================
+    public ContentDto.UploadSessionResponse writeChunk(String uploadId, Long userId, long offset, long length, InputStream body) {
+        UploadSession session = getOwnedSession(uploadId, userId);
+        if (session.committing) {
+            throw new CustomException(ErrorCode.UPLOAD_COMMIT_IN_PROGRESS);
+        }
+        boolean lengthKnown = length >= 0;
+        if (!lengthKnown && offset >= 0 && offset < session.totalSize) {
+            length = Math.min(maxChunkSize, session.totalSize - offset);
+        }
+        if (offset < 0 || length <= 0 || length > maxChunkSize || offset + length > session.totalSize) {
+            throw new CustomException(ErrorCode.INVALID_CHUNK_RANGE);
+        }
+
+        long written = fileStorageService.writeChunk(session.partial, offset, length, body);
+        if (!lengthKnown && written == length && hasMoreData(body)) {
+            throw new CustomException(ErrorCode.INVALID_CHUNK_RANGE); // 남은 구간/청크 상한 초과
+        }
+        if (written > 0) {
+            session.markReceived(offset, offset + written);
+        }
+        log.debug("청크 수신 | uploadId={} | offset={} | length={} | written={}", uploadId, offset, length, written);
+        return toResponse(session);
+    }
+
+    // ==========================================================
+    // 3) 수신 구간 조회
+    // ==========================================================
+    public ContentDto.UploadSessionResponse getStatus(String uploadId, Long userId) {
+        return toResponse(getOwnedSession(uploadId, userId));
+    }
+
+    // ==========================================================
+    // 4) 완료 → Content 생성
+    // ==========================================================
+    //  - committing 플래그로 동시 commit/청크/취소/만료 정리를 막고, Content 생성까지 끝난 뒤에만 세션 제거
+    //  - 실패 시 플래그만 해제 → 재시도 시 이미 끝난 단계(파일 이동, Content 생성)는 건너뜀
+    // ==========================================================
+    public ContentDto.UploadResponse commit(String uploadId, Long userId) {
+        UploadSession session = getOwnedSession(uploadId, userId);
+        if (!session.isComplete()) {
+            throw new CustomException(ErrorCode.UPLOAD_NOT_COMPLETE);
+        }
+        if (!session.beginCommit()) {
+            throw new CustomException(ErrorCode.UPLOAD_COMMIT_IN_PROGRESS); // 동시에 commit된 경우
+        }
+
+        try {
+            if (session.stored == null) {
+                session.stored = fileStorageService.storeCompleted(session.partial, session.fileName);
+            }
+            if (session.created == null) {
+                session.created = contentService.createFromStoredFile(session.stored, session.fileName, session.title, userId);
+            }
+            progressService.createProgressIfNotExists(userId, session.created.getContentId());
+        } catch (RuntimeException e) {
+            session.endCommit();
+            log.warn("⚠️ 청크 업로드 commit 실패 (재시도 가능) | uploadId={} | {}", uploadId, e.getMessage());
+            throw e;
+        }
+
+        sessions.remove(uploadId, session);
+        log.info("✅ 청크 업로드 완료 | uploadId={} | contentId={} | size={}",
+                uploadId, session.created.getContentId(), session.stored.getSize());
+        return session.created;
+    }
+
+    public void abort(String uploadId, Long userId) {
+        UploadSession session = getOwnedSession(uploadId, userId);
+        if (session.committing) {
+            throw new CustomException(ErrorCode.UPLOAD_COMMIT_IN_PROGRESS);
+        }
+        if (sessions.remove(uploadId, session)) {
+            discardPartial(session);
+        }
+        log.info("🗑️ 청크 업로드 취소 | uploadId={}", uploadId);
+    }
+
+    // 오래 방치된 세션 정리 (부분 파일 삭제, commit 중인 세션은 제외)
+    @Scheduled(fixedDelayString = "${content.upload.chunked.cleanup-interval:PT10M}")
+    public void evictExpiredSessions() {
+        Instant threshold = Instant.now().minus(sessionTtl);
+        sessions.values().removeIf(session -> {
+            if (!session.committing && session.lastTouched.isBefore(threshold)) {
+                discardPartial(session);
+                log.info("🧹 만료된 청크 업로드 세션 정리 | uploadId={}", session.uploadId);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    // ====== helpers ======
+    // 이미 업로드 디렉터리로 이동한 파일은 내용 주소(sha256) 파일이라 다른 Content와 공유될 수 있음 → 남겨 둠
+    private void discardPartial(UploadSession session) {
+        if (session.stored == null) {
+            fileStorageService.discard(session.partial);
+        }
+    }
+
+    private static boolean hasMoreData(InputStream body) {
+        try {
+            return body.read() != -1;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private UploadSession getOwnedSession(String uploadId, Long userId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null || !session.userId.equals(userId)) {
+            throw new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+        }
+        return session;
+    }
+
+    private ContentDto.UploadSessionResponse toResponse(UploadSession session) {
+        synchronized (session) {
+            List<long[]> ranges = new ArrayList<>();
+            session.ranges.forEach((start, end) -> ranges.add(new long[]{start, end}));
+            return new ContentDto.UploadSessionResponse(session.uploadId, session.fileName, session.totalSize,
+                    session.receivedBytes(), ranges, session.isComplete());
+        }
+    }
+
+    private static class UploadSession {
+        private final String uploadId;
+        private final Long userId;
+        private final String title;
+        private final String fileName;
+        private final long totalSize;
+        private final Path partial;
+        /** 수신 완료 구간: start → end(exclusive), 겹치거나 맞닿은 구간은 병합 */
+        private final TreeMap<Long, Long> ranges = new TreeMap<>();
+        private volatile Instant lastTouched = Instant.now();
+        /** commit 진행 상태 및 단계별 결과 (실패 후 재시도 시 재사용) */
+        private volatile boolean committing;
+        private volatile FileStorageService.StoredFile stored;
+        private volatile ContentDto.UploadResponse created;
+
+        private UploadSession(String uploadId, Long userId, String title, String fileName, long totalSize, Path partial) {
+            this.uploadId = uploadId;
+            this.userId = userId;
+            this.title = title;
+            this.fileName = fileName;
+            this.totalSize = totalSize;
+            this.partial = partial;
+        }
+
+        private synchronized void markReceived(long start, long end) {
+            Map.Entry<Long, Long> floor = ranges.floorEntry(start);
+            if (floor != null && floor.getValue() >= start) {
+                start = floor.getKey();
+                end = Math.max(end, floor.getValue());
+            }
+            Map.Entry<Long, Long> next = ranges.ceilingEntry(start);
+            while (next != null && next.getKey() <= end) {
+                end = Math.max(end, next.getValue());
+                ranges.remove(next.getKey());
+                next = ranges.ceilingEntry(start);
+            }
+            ranges.put(start, end);
+            lastTouched = Instant.now();
+        }
+
+        private synchronized boolean beginCommit() {
+            if (committing) return false;
+            committing = true;
+            lastTouched = Instant.now();
+            return true;
+        }
+
+        private synchronized void endCommit() {
+            committing = false;
+            lastTouched = Instant.now();
+        }
+
+        private synchronized long receivedBytes() {
+            return ranges.entrySet().stream().mapToLong(e -> e.getValue() - e.getKey()).sum();
+        }
+
+        private synchronized boolean isComplete() {
+            return ranges.size() == 1 && ranges.firstKey() == 0L && ranges.firstEntry().getValue() == totalSize;
+        }
+    }
+}
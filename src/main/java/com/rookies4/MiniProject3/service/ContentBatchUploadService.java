@@ -0,0 +1,90 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.domain.enums.ContentStatus;
+import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 다중 파일 업로드를 제한된 병렬도로 처리
+ * - 요청 하나가 동시에 점유할 수 있는 작업 수: content.upload.per-request-parallelism
+ * - 전체 동시 처리 상한: uploadExecutor 풀 크기 (content.upload.max-concurrent)
+ * - 결과/실패는 입력 파일 순서대로 반환
+ */
+@Slf4j
+@Service
+public class ContentBatchUploadService {
+
+    private final ContentService contentService;
+    private final ProgressService progressService;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+    private final int perRequestParallelism;
+
+    public ContentBatchUploadService(ContentService contentService,
+                                     ProgressService progressService,
+                                     @Qualifier("uploadExecutor") ThreadPoolTaskExecutor uploadExecutor,
+                                     @Value("${content.upload.per-request-parallelism:3}") int perRequestParallelism) {
+        this.contentService = contentService;
+        this.progressService = progressService;
+        this.uploadExecutor = uploadExecutor;
+        this.perRequestParallelism = Math.max(1, perRequestParallelism);
+    }
+
+    public List<ContentDto.UploadResponse> uploadAll(List<MultipartFile> files, String title, Long userId) {
+        Semaphore permits = new Semaphore(perRequestParallelism);
+        List<CompletableFuture<ContentDto.UploadResponse>> futures = new ArrayList<>(files.size());
+
+        for (MultipartFile file : files) {
+            permits.acquireUninterruptibly();
+            try {
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> uploadOne(file, title, userId), uploadExecutor)
+                        .whenComplete((r, e) -> permits.release()));
+            } catch (TaskRejectedException e) {
+                permits.release();
+                log.warn("⚠️ 업로드 작업 큐 포화 | file={}", file.getOriginalFilename());
+                futures.add(CompletableFuture.completedFuture(
+                        failed(file, title, "업로드 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.")));
+            }
+        }
+
+        // 입력 순서 그대로 수집 (uploadOne은 예외를 결과로 변환하므로 join은 실패하지 않음)
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private ContentDto.UploadResponse uploadOne(MultipartFile file, String title, Long userId) {
+        try {
+            // 1) 콘텐츠 업로드 및 DB 저장
+            ContentDto.UploadResponse response = contentService.uploadFile(file, title, userId);
+
+            // 2) Progress 자동 생성
+            progressService.createProgressIfNotExists(userId, response.getContentId());
+            log.info("🧩 Progress 생성 완료 | userId={} | contentId={}", userId, response.getContentId());
+            return response;
+        } catch (CustomException e) {
+            log.warn("❌ 파일 업로드 실패 | file={} | code={}", file.getOriginalFilename(), e.getErrorCode().getCode());
+            return failed(file, title, e.getErrorCode().getMessage());
+        } catch (Exception e) {
+            // 내부 오류 내용(경로, SQL 등)은 서버 로그에만 남기고 응답에는 일반 메시지
+            log.error("❌ 파일 업로드 실패 | file={}", file.getOriginalFilename(), e);
+            return failed(file, title, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+
+    private ContentDto.UploadResponse failed(MultipartFile file, String title, String message) {
+        return new ContentDto.UploadResponse(
+                null, title, ContentStatus.FAILED.name(), null, null, file.getOriginalFilename(), message);
+    }
+}
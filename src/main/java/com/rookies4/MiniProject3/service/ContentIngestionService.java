@@ -0,0 +1,38 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.dto.ai.AiUploadResponse;
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * 업로드된 PDF의 벡터화 처리
+ * - AI 작업 큐(VECTORIZE)의 워커 스레드에서 실행
+ * - 처리 결과는 Content.status (COMPLETED / FAILED)로 반영 → GET /{contentId}/status 로 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentIngestionService {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final PythonServerClient pythonServerClient;
+
+    // ==========================================================
+    //  FastAPI 전송 + 챕터 감지 + vectorPath 저장
+    //  - 실패 시 예외 → 작업 큐가 백오프 후 재시도
+    // ==========================================================
+    public void vectorize(Long contentId, String filePath) {
+        AiUploadResponse response = pythonServerClient.uploadPdfAndVectorize(contentId, filePath);
+
+        // ✅ 같은 프로세스 안에서 Content 행에 반영 (HTTP 왕복 없음)
+        eventPublisher.publishEvent(ContentUpdatedEvent.vectorized(
+                contentId, response.totalChaptersOrZero(), response.resolvedVectorPath()));
+    }
+
+    public void markFailed(Long contentId) {
+        eventPublisher.publishEvent(ContentUpdatedEvent.failed(contentId));
+    }
+}
@@ -2,14 +2,20 @@ package com.rookies4.MiniProject3.service;
 
 import com.rookies4.MiniProject3.domain.entity.Content;
 import com.rookies4.MiniProject3.domain.entity.User;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
 import com.rookies4.MiniProject3.domain.enums.ContentStatus;
 import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
 import com.rookies4.MiniProject3.exception.CustomException;
 import com.rookies4.MiniProject3.exception.ErrorCode;
 import com.rookies4.MiniProject3.repository.ContentRepository;
 import com.rookies4.MiniProject3.repository.UserRepository;
+import com.rookies4.MiniProject3.service.job.AiJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,10 +33,11 @@ public class ContentService {
     private final ContentRepository contentRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
-    private final PythonServerClient pythonServerClient;
+    private final AiJobService aiJobService;
 
     // ==========================================================
-    //  파일 업로드 + FastAPI 전송 + 챕터 감지 + vectorPath 저장
+    //  파일 업로드 + Content(PROCESSING) 저장
+    //  - FastAPI 벡터화는 AI 작업 큐(VECTORIZE)에서 백그라운드로 처리
     // ==========================================================
     @Transactional
     public ContentDto.UploadResponse uploadFile(MultipartFile file, String title, Long userId) {
@@ -43,8 +50,56 @@ public class ContentService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 파일 저장
-        String originalFileName = file.getOriginalFilename();
-        String storedFilePath = fileStorageService.store(file);
+        FileStorageService.StoredFile stored = fileStorageService.storeFile(file);
+        return registerStoredFile(user, title, file.getOriginalFilename(), stored);
+    }
+
+    // ==========================================================
+    //  이미 저장된 파일(이어받기 업로드 완료분 등)로 Content 생성
+    // ==========================================================
+    @Transactional
+    public ContentDto.UploadResponse createFromStoredFile(FileStorageService.StoredFile stored,
+                                                          String originalFileName, String title, Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return registerStoredFile(user, title, originalFileName, stored);
+    }
+
+    private ContentDto.UploadResponse registerStoredFile(User user, String title, String originalFileName,
+                                                         FileStorageService.StoredFile stored) {
+        String storedFilePath = stored.getPath();
+        log.info("💾 파일 저장 완료 | path={} | size={} | sha256={} | 기존파일재사용={}",
+                storedFilePath, stored.getSize(), stored.getSha256(), stored.isDeduplicated());
+
+        // ✅ 같은 내용의 PDF가 이미 처리됐다면 파일/벡터/챕터 정보를 재사용하고 FastAPI 호출 생략
+        Optional<Content> processed = contentRepository
+                .findFirstByContentHashAndStatusOrderByIdAsc(stored.getSha256(), ContentStatus.COMPLETED)
+                .filter(c -> c.getVectorPath() != null);
+        if (processed.isPresent()) {
+            Content source = processed.get();
+            Content content = contentRepository.saveAndFlush(Content.builder()
+                    .user(user)
+                    .title(title)
+                    .fileName(originalFileName)
+                    .filePath(source.getFilePath())
+                    .contentHash(stored.getSha256())
+                    .vectorPath(source.getVectorPath())
+                    .totalChapters(source.getTotalChapters())
+                    .status(ContentStatus.COMPLETED)
+                    .build());
+            log.info("♻️ 중복 PDF 감지 → 기존 벡터 재사용 | id={} | sourceId={} | sha256={}",
+                    content.getId(), source.getId(), stored.getSha256());
+
+            return new ContentDto.UploadResponse(
+                    content.getId(),
+                    content.getTitle(),
+                    content.getStatus().name(),
+                    content.getTotalChapters(),
+                    content.getVectorPath(),
+                    originalFileName,
+                    null
+            );
+        }
 
         // 콘텐츠 생성
         Content content = Content.builder()
@@ -52,59 +107,49 @@ public class ContentService {
                 .title(title)
                 .fileName(originalFileName)
                 .filePath(storedFilePath)
+                .contentHash(stored.getSha256())
                 .status(ContentStatus.PROCESSING)
                 .build();
 
         contentRepository.saveAndFlush(content);
         log.info("📦 Content 생성 완료 | id={} | title={}", content.getId(), title);
 
-        try {
-            // ✅ FastAPI 호출: PDF 업로드 + 벡터화 + 챕터 감지
-            Map<String, Object> fastApiResponse =
-                    pythonServerClient.uploadPdfAndVectorize(content.getId(), storedFilePath);
-
-            int totalChapters = 0;
-            String vectorPath = null;
-
-            if (fastApiResponse != null) {
-                // total_chapters 파싱
-                if (fastApiResponse.get("total_chapters") != null) {
-                    try {
-                        totalChapters = Integer.parseInt(fastApiResponse.get("total_chapters").toString());
-                    } catch (Exception e) {
-                        log.warn("⚠️ total_chapters 변환 실패: {}", fastApiResponse.get("total_chapters"));
-                    }
-                }
-                // vector_path 파싱
-                if (fastApiResponse.get("vector_path") != null) {
-                    vectorPath = fastApiResponse.get("vector_path").toString();
-                }
-            }
-
-            // ✅ DB 반영
-            content.updateTotalChapters(totalChapters);
-            content.setVectorPath(vectorPath);
-            content.changeStatus(ContentStatus.COMPLETED);
-            contentRepository.saveAndFlush(content);
-
-            log.info("✅ 업로드/분석 완료 | contentId={} | total_chapters={} | vectorPath={}",
-                    content.getId(), totalChapters, vectorPath);
-
-            // ✅ DTO 반환
-            return new ContentDto.UploadResponse(
-                    content.getId(),
-                    content.getTitle(),
-                    content.getStatus().name(),
-                    totalChapters,
-                    vectorPath
-            );
+        // ✅ 벡터화 작업을 같은 트랜잭션으로 작업 큐에 등록 (커밋되면 워커가 처리, 재시작/실패 시 재시도)
+        aiJobService.enqueue(AiJobType.VECTORIZE, content.getId(), Map.of("filePath", storedFilePath));
+
+        return new ContentDto.UploadResponse(
+                content.getId(),
+                content.getTitle(),
+                content.getStatus().name(),
+                null,
+                null,
+                originalFileName,
+                null
+        );
+    }
+
+    // ==========================================================
+    //  처리 결과 반영 (백그라운드 벡터화 / FastAPI 콜백 → 이벤트로 전달)
+    // ==========================================================
+    @Order(Ordered.HIGHEST_PRECEDENCE) // 상태 스트림(ContentStatusRegistry)보다 먼저 DB 반영
+    @EventListener
+    @Transactional
+    public void onContentUpdated(ContentUpdatedEvent event) {
+        Content content = contentRepository.findById(event.getContentId())
+                .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
 
-        } catch (Exception e) {
-            log.error("❌ FastAPI 업로드 실패 | contentId={} | error={}", content.getId(), e.getMessage());
-            content.changeStatus(ContentStatus.FAILED);
-            contentRepository.saveAndFlush(content);
-            throw new CustomException(ErrorCode.FAILED_TO_PROCESS_CONTENT);
+        if (event.getTotalChapters() != null) {
+            content.updateTotalChapters(event.getTotalChapters());
+        }
+        if (event.getVectorPath() != null) {
+            content.setVectorPath(event.getVectorPath());
         }
+        if (event.getStatus() != null) {
+            content.changeStatus(event.getStatus());
+        }
+
+        log.info("🔄 콘텐츠 처리 결과 반영 | contentId={} | status={} | total_chapters={} | vectorPath={}",
+                content.getId(), content.getStatus(), content.getTotalChapters(), content.getVectorPath());
     }
 
     // ==========================================================
@@ -125,20 +170,6 @@ public class ContentService {
         return List.of(content.getFilePath());
     }
 
-    // ==========================================================
-    // ✅ Vector Path 업데이트 (FastAPI → Spring)
-    // ==========================================================
-    @Transactional
-    public void updateVectorPath(Long contentId, String vectorPath) {
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
-
-        content.setVectorPath(vectorPath);
-        contentRepository.save(content);
-
-        log.info("✅ vectorPath 업데이트 완료 | contentId={} | path={}", contentId, vectorPath);
-    }
-
     // ==========================================================
     // 단일 콘텐츠 조회
     // ==========================================================
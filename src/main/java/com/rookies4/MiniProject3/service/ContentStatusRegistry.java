@@ -0,0 +1,176 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.enums.ContentStatus;
+import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.event.ContentActivityEvent;
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.repository.ContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 콘텐츠 처리 상태 스트림 (GET /api/contents/{contentId}/events)
+ * - 구독 시작 시 DB 1회 조회로 현재 상태 전송, 이후 변경은 이벤트로 push (폴링 제거)
+ * - 구독자가 있는 콘텐츠만 메모리에 유지, 마지막 구독자가 끊기면 제거
+ */
+@Slf4j
+@Service
+public class ContentStatusRegistry {
+
+    private final ContentRepository contentRepository;
+    private final long timeoutMillis;
+    private final Map<Long, Watch> watches = new ConcurrentHashMap<>();
+
+    public ContentStatusRegistry(ContentRepository contentRepository,
+                                 @Value("${content.events.timeout:PT30M}") Duration timeout) {
+        this.contentRepository = contentRepository;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    // ==========================================================
+    // ✅ 구독
+    // ==========================================================
+    public SseEmitter subscribe(Long contentId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // 등록을 compute 안에서 수행 → unsubscribe의 빈 Watch 제거와 원자적 (제거된 Watch에 붙는 일 방지)
+        Watch watch = watches.compute(contentId, (id, existing) -> {
+            Watch w = existing != null ? existing : new Watch(id);
+            w.emitters.add(emitter);
+            return w;
+        });
+
+        // DB 조회는 등록 이후 → 조회 도중 커밋된 변경도 이벤트로 Watch에 반영됨 (놓치는 구간 없음)
+        Content content = contentRepository.findById(contentId).orElse(null);
+        if (content == null) {
+            unsubscribe(contentId, emitter);
+            throw new CustomException(ErrorCode.CONTENT_NOT_FOUND);
+        }
+        watch.applySnapshot(content.getStatus(), content.getTotalChapters());
+
+        emitter.onCompletion(() -> unsubscribe(contentId, emitter));
+        emitter.onTimeout(() -> unsubscribe(contentId, emitter));
+        emitter.onError(e -> unsubscribe(contentId, emitter));
+
+        send(contentId, emitter, watch.snapshot("STATUS", null));
+        log.info("📡 상태 스트림 구독 | contentId={} | subscribers={}", contentId, watch.emitters.size());
+        return emitter;
+    }
+
+    private void unsubscribe(Long contentId, SseEmitter emitter) {
+        watches.computeIfPresent(contentId, (id, watch) -> {
+            watch.emitters.remove(emitter);
+            return watch.emitters.isEmpty() ? null : watch;
+        });
+    }
+
+    // ==========================================================
+    // ✅ 상태 변경 → 구독자 push (DB 반영/커밋 이후)
+    // ==========================================================
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentUpdated(ContentUpdatedEvent event) {
+        Watch watch = watches.get(event.getContentId());
+        if (watch == null) return;
+
+        boolean chaptersChanged = watch.update(event.getStatus(), event.getTotalChapters());
+        if (chaptersChanged) {
+            broadcast(event.getContentId(), watch, watch.snapshot("CHAPTERS_DETECTED", null));
+        }
+        if (event.getStatus() != null) {
+            broadcast(event.getContentId(), watch, watch.snapshot("STATUS", null));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentActivity(ContentActivityEvent event) {
+        Watch watch = watches.get(event.getContentId());
+        if (watch == null) return;
+        broadcast(event.getContentId(), watch, watch.snapshot(event.getType().name(), event.getDetail()));
+    }
+
+    // ==========================================================
+    // ✅ 프록시/LB 유휴 타임아웃 방지용 heartbeat (SSE comment)
+    // ==========================================================
+    @Scheduled(fixedDelayString = "${content.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        watches.forEach((contentId, watch) -> {
+            for (SseEmitter emitter : watch.emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(contentId, emitter);
+                }
+            }
+        });
+    }
+
+    private void broadcast(Long contentId, Watch watch, ContentDto.StatusEvent payload) {
+        for (SseEmitter emitter : watch.emitters) {
+            send(contentId, emitter, payload);
+        }
+    }
+
+    private void send(Long contentId, SseEmitter emitter, ContentDto.StatusEvent payload) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(payload.getEvent().toLowerCase())
+                    .data(payload));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("📡 상태 스트림 전송 실패 (연결 종료) | contentId={}", contentId);
+            unsubscribe(contentId, emitter);
+        }
+    }
+
+    // ============================================
+    // ✅ 콘텐츠별 마지막 상태 + 구독자
+    // ============================================
+    private static final class Watch {
+        private final Long contentId;
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+        private ContentStatus status;
+        private Integer totalChapters;
+
+        private Watch(Long contentId) {
+            this.contentId = contentId;
+        }
+
+        /** 구독 시점 DB 값 반영 (이벤트로 먼저 받은 최종 상태 COMPLETED/FAILED는 더 오래된 DB 값으로 덮지 않음) */
+        private synchronized void applySnapshot(ContentStatus status, Integer totalChapters) {
+            boolean terminal = this.status == ContentStatus.COMPLETED || this.status == ContentStatus.FAILED;
+            if (status != null && !terminal) this.status = status;
+            if (this.totalChapters == null) this.totalChapters = totalChapters;
+        }
+
+        /** @return 챕터 수가 새로 감지/변경되었는지 */
+        private synchronized boolean update(ContentStatus status, Integer totalChapters) {
+            if (status != null) this.status = status;
+            if (totalChapters != null && !totalChapters.equals(this.totalChapters)) {
+                this.totalChapters = totalChapters;
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized ContentDto.StatusEvent snapshot(String event, Map<String, Object> detail) {
+            return new ContentDto.StatusEvent(contentId, event, status == null ? null : status.name(),
+                    totalChapters, detail, LocalDateTime.now());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.rookies4.MiniProject3.service;
 
 import com.rookies4.MiniProject3.domain.entity.User;
+import com.rookies4.MiniProject3.jwt.AuthUser;
 import com.rookies4.MiniProject3.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,8 +21,9 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
-        // BCrypt로 저장된 비밀번호를 그대로 반환
-        return new org.springframework.security.core.userdetails.User(
+        // BCrypt로 저장된 비밀번호를 그대로 반환 (id는 access token의 uid 클레임으로 발급)
+        return new AuthUser(
+                user.getId(),
                 user.getEmail(),
                 user.getPassword(),
                 List.of() // 권한
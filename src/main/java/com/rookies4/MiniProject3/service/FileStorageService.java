@@ -1,11 +1,25 @@
 package com.rookies4.MiniProject3.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -14,33 +28,162 @@ import org.springframework.web.multipart.MultipartFile;
 @Service
 public class FileStorageService {
 
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
     private final Path fileStorageLocation;
+    private final Path partialLocation;
 
-    public FileStorageService(@Value("${file.upload-dir}") String uploadDir) {
+    public FileStorageService(@Value("${file.upload-dir}") String uploadDir,
+                              @Value("${spring.servlet.multipart.location:}") String multipartLocation) {
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.partialLocation = this.fileStorageLocation.resolve(".partial");
         try {
             Files.createDirectories(this.fileStorageLocation);
+            Files.createDirectories(this.partialLocation);
+            // 멀티파트 스풀 디렉터리를 업로드 디렉터리와 같은 파일시스템에 두어야 이동(rename)만으로 저장된다
+            if (StringUtils.hasText(multipartLocation)) {
+                Files.createDirectories(Paths.get(multipartLocation));
+            }
         } catch (Exception ex) {
             throw new RuntimeException("Could not create the directory where the uploaded files will be stored.", ex);
         }
     }
 
+    /** 저장 결과: 저장 경로 + 크기 + SHA-256 체크섬 (+ 동일 내용 파일이 이미 있었는지) */
+    @Getter
+    @AllArgsConstructor
+    public static class StoredFile {
+        private final String path;
+        private final long size;
+        private final String sha256;
+        private final boolean deduplicated;
+    }
+
     public String store(MultipartFile file) {
+        return storeFile(file).getPath();
+    }
+
+    /**
+     * 멀티파트 리졸버가 이미 디스크에 스풀한 임시 파일을 업로드 디렉터리로 그대로 이동한다.
+     * (MultipartFile.transferTo(File) → Part.write → 같은 파일시스템이면 rename, 힙 버퍼 복사 없음)
+     * 이동 후 FileChannel 한 번의 읽기로 크기와 체크섬을 함께 계산하고,
+     * 최종 파일명은 SHA-256 기반(content-addressed)으로 정해 같은 내용은 한 번만 보관한다.
+     */
+    public StoredFile storeFile(MultipartFile file) {
         String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
         String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        String storedFileName = UUID.randomUUID() + extension;
+        String tempFileName = UUID.randomUUID() + extension + ".part";
 
         try {
-            if (storedFileName.contains("..")) {
-                throw new RuntimeException("Filename contains invalid path sequence " + storedFileName);
+            if (tempFileName.contains("..")) {
+                throw new RuntimeException("Filename contains invalid path sequence " + tempFileName);
             }
 
-            Path targetLocation = this.fileStorageLocation.resolve(storedFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            Path tempLocation = this.fileStorageLocation.resolve(tempFileName);
+            file.transferTo(tempLocation.toFile());
+
+            return promote(tempLocation, extension);
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not store file " + tempFileName + ". Please try again!", ex);
+        }
+    }
+
+    // ==========================================================
+    //  이어받기(청크) 업로드용 부분 파일
+    // ==========================================================
+
+    /** 전체 크기만큼 미리 할당된 부분 파일 생성 */
+    public Path preallocate(String uploadId, long totalSize) {
+        Path partial = this.partialLocation.resolve(uploadId + ".part");
+        try (RandomAccessFile raf = new RandomAccessFile(partial.toFile(), "rw")) {
+            raf.setLength(totalSize);
+            return partial;
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not allocate partial file " + partial.getFileName(), ex);
+        }
+    }
+
+    /**
+     * 요청 바디를 부분 파일의 offset 위치에 그대로 기록 (위치 지정 쓰기, 다른 청크와 무관)
+     * - 입력 스트림은 닫지 않음 (호출 측이 남은 데이터 확인 가능, 요청 스트림은 컨테이너가 관리)
+     */
+    public long writeChunk(Path partial, long offset, long length, InputStream in) {
+        ReadableByteChannel source = Channels.newChannel(in);
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.WRITE)) {
+            long written = 0;
+            while (written < length) {
+                long n = channel.transferFrom(source, offset + written, length - written);
+                if (n <= 0) break; // 클라이언트가 선언한 길이보다 먼저 끊긴 경우
+                written += n;
+            }
+            return written;
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not write chunk to " + partial.getFileName(), ex);
+        }
+    }
 
-            return targetLocation.toString();
+    /** 다 받은 부분 파일을 업로드 디렉터리로 이동 (다시 읽어 메모리에 올리지 않음) */
+    public StoredFile storeCompleted(Path partial, String originalFileName) {
+        String cleaned = StringUtils.cleanPath(originalFileName);
+        String extension = cleaned.substring(cleaned.lastIndexOf("."));
+        try {
+            return promote(partial, extension);
         } catch (IOException ex) {
-            throw new RuntimeException("Could not store file " + storedFileName + ". Please try again!", ex);
+            throw new RuntimeException("Could not store file " + partial.getFileName() + ". Please try again!", ex);
+        }
+    }
+
+    public void discard(Path partial) {
+        try {
+            Files.deleteIfExists(partial);
+        } catch (IOException ignored) {
+        }
+    }
+
+    // 임시 파일의 해시를 계산해 <sha256><ext> 로 이동. 이미 있으면 임시 파일을 버리고 기존 파일을 재사용
+    private StoredFile promote(Path tempLocation, String extension) throws IOException {
+        Digest digest = digest(tempLocation);
+        Path targetLocation = this.fileStorageLocation.resolve(digest.sha256 + extension);
+
+        if (Files.exists(targetLocation)) {
+            Files.deleteIfExists(tempLocation);
+            return new StoredFile(targetLocation.toString(), digest.size, digest.sha256, true);
+        }
+        try {
+            Files.move(tempLocation, targetLocation, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredFile(targetLocation.toString(), digest.size, digest.sha256, false);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 업로드된 경우
+            Files.deleteIfExists(tempLocation);
+            return new StoredFile(targetLocation.toString(), digest.size, digest.sha256, true);
+        }
+    }
+
+    private record Digest(long size, String sha256) {}
+
+    // 파일을 한 번 순차로 읽으며 크기 + SHA-256 계산 (direct buffer → 힙 복사 최소화)
+    private Digest digest(Path path) throws IOException {
+        MessageDigest sha256 = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+        long size = 0;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                size += read;
+                buffer.flip();
+                sha256.update(buffer);
+                buffer.clear();
+            }
+        }
+        return new Digest(size, HexFormat.of().formatHex(sha256.digest()));
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
-}
\ No newline at end of file
+}
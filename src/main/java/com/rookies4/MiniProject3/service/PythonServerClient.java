@@ -1,21 +1,45 @@
 package com.rookies4.MiniProject3.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.config.PythonServerProperties;
 import com.rookies4.MiniProject3.dto.QuizGradeRequest;
 import com.rookies4.MiniProject3.dto.QuizResponseDto;
 import com.rookies4.MiniProject3.dto.SummaryDto;
+import com.rookies4.MiniProject3.dto.ai.AiChatCompletionResponse;
+import com.rookies4.MiniProject3.dto.ai.AiGradeResponse;
+import com.rookies4.MiniProject3.dto.ai.AiQuizItem;
+import com.rookies4.MiniProject3.dto.ai.AiQuizPayload;
+import com.rookies4.MiniProject3.dto.ai.AiUploadResponse;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 
@@ -25,217 +49,236 @@ import java.util.stream.Collectors;
 public class PythonServerClient {
 
     private final WebClient webClient;
-
-    @Value("${backend.base-url:http://localhost:8080}") // ✅ Spring 서버 주소
-    private String backendBaseUrl;
-
-    @Value("${python.server.url:http://ai:8000}")
-    private String fastApiBaseUrl;
+    private final ObjectMapper objectMapper;
+    private final AiPayloadLogger payloadLogger;
+    private final AiCallPolicy callPolicy;
+
+    private final PythonServerProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    // 작업별 서킷브레이커/벌크헤드 인스턴스 이름 (resilience4j.*.instances.{name})
+    private static final String UPLOAD = "python-upload";
+    private static final String SUMMARIZE = "python-summarize";
+    private static final String ASK = "python-ask";
+    private static final String QUIZ = "python-quiz";
+    private static final String GRADE = "python-grade";
+
+    // 퀴즈 문항 정리용 패턴 (요청마다 재컴파일하지 않도록 미리 컴파일)
+    private static final Pattern LINE_BREAK = Pattern.compile("\n");
+    private static final Pattern OPTION_LINE = Pattern.compile("^[a-dA-D]\\).*");
+    private static final List<String> DEFAULT_OPTIONS = List.of("보기1", "보기2", "보기3", "보기4");
 
     private String openaiApiKey = "OPENAI_API_KEY";
 
+    // 퀴즈 LLM 보강 동시 요청 수
+    @Value("${quiz.enrich.concurrency:4}")
+    private int enrichConcurrency;
+
     // ==========================================================
     // ✅ FastAPI: PDF 업로드 + 벡터화 + total_chapters 감지
     // ==========================================================
-    public Map<String, Object> uploadPdfAndVectorize(Long contentId, String filePath) {
-        Map<String, Object> resultMap = new HashMap<>();
-
-        try {
-            File file = new File(filePath);
-            if (!file.exists()) {
-                log.error("❌ 업로드할 파일을 찾을 수 없습니다: {}", filePath);
-                resultMap.put("error", "file_not_found");
-                return resultMap;
-            }
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("files", new FileSystemResource(file));
-
-            log.info("📤 FastAPI 업로드 요청 시작 | contentId={} | path={}", contentId, filePath);
-            log.info("FastAPI base url={}",fastApiBaseUrl);
-            // FastAPI 업로드 요청
-            Map<String, Object> response = webClient.post()
-                    .uri(fastApiBaseUrl + "/upload_pdfs/")
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            if (response == null) {
-                log.error("❌ FastAPI 응답이 비어 있습니다.");
-                resultMap.put("error", "empty_response");
-                return resultMap;
-            }
-
-            log.info("✅ FastAPI 응답 수신 | contentId={} | response={}", contentId, response);
-
-            // --------------------------
-            // total_chapters, vector_path 추출
-            // --------------------------
-            Object totalChaptersObj = response.get("total_chapters");
-            int totalChapters = (totalChaptersObj instanceof Number)
-                    ? ((Number) totalChaptersObj).intValue()
-                    : 0;
-
-            String vectorPath;
-            if (response.containsKey("vector_path")) {
-                vectorPath = String.valueOf(response.get("vector_path"));
-            } else if (response.containsKey("created_vectors_for")) {
-                List<String> paths = (List<String>) response.get("created_vectors_for");
-                if (paths != null && !paths.isEmpty()) vectorPath = paths.get(0);
-                else {
-                    vectorPath = null;
-                }
-            } else {
-                vectorPath = null;
-            }
-
-            // ✅ Spring 백엔드에 vectorPath 저장
-            log.info("👉 vectorPath = {}", vectorPath);
-            if (vectorPath != null) {
-                try {
-                    WebClient.create(backendBaseUrl)
-                            .patch()
-                            .uri(uriBuilder -> uriBuilder
-                                    .path("/api/contents/{id}/vector-path")
-                                    .queryParam("vectorPath", vectorPath)
-                                    .build(contentId))
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .block();
-
-                    log.info("✅ 백엔드 vectorPath 업데이트 완료 | vectorPath={}", vectorPath);
-                } catch (Exception e) {
-                    log.error("⚠️ 백엔드 vectorPath 업데이트 실패: {}", e.getMessage());
-                }
-            }
-
-            // 결과 반환
-            resultMap.put("total_chapters", totalChapters);
-            resultMap.put("vector_path", vectorPath);
-            log.info("📦 업로드 완료 | total_chapters={} | vector_path={}", totalChapters, vectorPath);
-
-            return resultMap;
+    public AiUploadResponse uploadPdfAndVectorize(Long contentId, String filePath) {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            log.error("❌ 업로드할 파일을 찾을 수 없습니다: {}", filePath);
+            throw new IllegalStateException("업로드할 파일 없음: " + filePath);
+        }
 
-        } catch (Exception e) {
-            log.error("🚨 FastAPI 업로드 및 벡터화 요청 실패", e);
-            resultMap.put("error", e.getMessage());
-            return resultMap;
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("files", new FileSystemResource(file));
+
+        log.info("📤 FastAPI 업로드 요청 시작 | contentId={} | path={}", contentId, filePath);
+        log.info("FastAPI base url={}",properties.getUrl());
+        // FastAPI 업로드 요청 (실패 시 예외 → 작업 큐가 백오프 후 재시도)
+        AiUploadResponse response = webClient.post()
+                .uri(properties.getUrl() + "/upload_pdfs/")
+                .httpRequest(responseTimeout(properties.getTimeouts().getUpload()))
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(AiUploadResponse.class)
+                .transformDeferred(guard(UPLOAD))
+                .doOnError(e -> log.error("🚨 FastAPI 업로드 및 벡터화 요청 실패 | contentId={}", contentId, e))
+                .block();
+
+        if (response == null) {
+            log.error("❌ FastAPI 응답이 비어 있습니다.");
+            throw new IllegalStateException("FastAPI 벡터화 응답 없음");
         }
+
+        payloadLogger.log("upload", "response", response);
+        log.info("📦 업로드 완료 | contentId={} | total_chapters={} | vector_path={}",
+                contentId, response.totalChaptersOrZero(), response.resolvedVectorPath());
+        return response;
     }
 
     // ======================================
     // 전체 요약 요청
+    //  - *Async: 컨트롤러용 논블로킹 버전 (WebClient 이벤트 루프에서 완료)
+    //  - 동기 버전: 작업 큐 워커 등 블로킹 호출부용
     // ======================================
-    public String summarizeFull(Long contentId) {
+    public Mono<String> summarizeFullAsync(Long contentId) {
         log.info("[AI 요약 요청] 전체 요약 요청 → contentId={}", contentId);
-        try {
-            return webClient.post()
-                    .uri("/api/contents/{contentId}/summarize", contentId)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("❌ 전체 요약 요청 실패: {}", e.getMessage());
-            return "요약 실패";
-        }
+        return webClient.post()
+                .uri("/api/contents/{contentId}/summarize", contentId)
+                .httpRequest(responseTimeout(properties.getTimeouts().getSummarize()))
+                .retrieve()
+                .bodyToMono(String.class)
+                .transformDeferred(guard(SUMMARIZE))
+                .transform(callPolicy.retryOnConnectionError(SUMMARIZE))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("❌ 전체 요약 요청 실패: {}", e.getMessage());
+                    return new CustomException(ErrorCode.AI_SERVER_COMMUNICATION_ERROR);
+                });
+    }
+
+    public String summarizeFull(Long contentId) {
+        return summarizeFullAsync(contentId).block();
     }
 
     // ======================================
-// 단원별 요약 요청
-// ======================================
-    public String summarizeByChapter(Long contentId, SummaryDto.ChapterRequest request) {
+    // 단원별 요약 요청
+    // ======================================
+    public Mono<String> summarizeByChapterAsync(Long contentId, SummaryDto.ChapterRequest request) {
         log.info("[AI 요약 요청] 단원별 요약 요청 → contentId={} | chapter={}",
                 contentId, request.getChapter()); // ✅ 수정됨
 
-        try {
-            return webClient.post()
-                    .uri("/api/contents/{contentId}/summaries", contentId)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("❌ 단원별 요약 요청 실패: {}", e.getMessage());
-            return "요약 실패";
-        }
+        return webClient.post()
+                .uri("/api/contents/{contentId}/summaries", contentId)
+                .httpRequest(responseTimeout(properties.getTimeouts().getSummarize()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(String.class)
+                .transformDeferred(guard(SUMMARIZE))
+                .transform(callPolicy.retryOnConnectionError(SUMMARIZE))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("❌ 단원별 요약 요청 실패: {}", e.getMessage());
+                    return new CustomException(ErrorCode.AI_SERVER_COMMUNICATION_ERROR);
+                });
+    }
+
+    public String summarizeByChapter(Long contentId, SummaryDto.ChapterRequest request) {
+        return summarizeByChapterAsync(contentId, request).block();
     }
 
     // ======================================
     // RAG 질문 요청
     // ======================================
-    public String askQuestion(Long contentId, String question, boolean forceWeb) {
-        try {
-            // JSON Body 구성
-            Map<String, Object> body = new HashMap<>();
-            body.put("question", question);
-            body.put("force_web", forceWeb);
-
-            log.info("🧠 질문 요청 → contentId={} | question='{}' | forceWeb={}", contentId, question, forceWeb);
+    public Mono<String> askQuestionAsync(Long contentId, String question, boolean forceWeb) {
+        // JSON Body 구성
+        Map<String, Object> body = new HashMap<>();
+        body.put("question", question);
+        body.put("force_web", forceWeb);
+
+        log.info("🧠 질문 요청 → contentId={} | 질문길이={}자 | forceWeb={}", contentId, question.length(), forceWeb);
+        payloadLogger.log("ask", "request", body);
+
+        // 연결 오류 재시도 + (설정 시) 느린 응답 헤징: 먼저 도착한 응답 사용, 나머지 요청은 취소
+        return callPolicy.hedge(ASK, () -> webClient.post()
+                        .uri("/api/contents/{contentId}/ask", contentId)
+                        .httpRequest(responseTimeout(properties.getTimeouts().getAsk()))
+                        .contentType(MediaType.APPLICATION_JSON)  // ✅ JSON 전송
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .transformDeferred(guard(ASK))
+                        .transform(callPolicy.retryOnConnectionError(ASK)))
+                .doOnNext(answer -> payloadLogger.log("ask", "response", answer))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("❌ 질문 요청 실패: {}", e.getMessage(), e);
+                    return new CustomException(ErrorCode.AI_SERVER_COMMUNICATION_ERROR);
+                });
+    }
 
-            return webClient.post()
-                    .uri("/api/contents/{contentId}/ask", contentId)
-                    .contentType(MediaType.APPLICATION_JSON)  // ✅ JSON 전송
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+    public String askQuestion(Long contentId, String question, boolean forceWeb) {
+        return askQuestionAsync(contentId, question, forceWeb).block();
+    }
 
-        } catch (Exception e) {
-            log.error("❌ 질문 요청 실패: {}", e.getMessage(), e);
-            return "질문 실패";
-        }
+    // ======================================
+    // RAG 질문 스트리밍 (FastAPI SSE/chunked 응답을 토큰 단위로 전달)
+    //  - 구독 취소(클라이언트 연결 종료) 시 FastAPI 요청도 함께 취소
+    // ======================================
+    public Flux<String> askQuestionStream(Long contentId, String question, boolean forceWeb) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("question", question);
+        body.put("force_web", forceWeb);
+
+        log.info("🧠 질문 스트리밍 요청 → contentId={} | 질문길이={}자 | forceWeb={}", contentId, question.length(), forceWeb);
+        payloadLogger.log("ask", "request", body);
+
+        return webClient.post()
+                .uri("/api/contents/{contentId}/ask/stream", contentId)
+                // 스트리밍은 청크 간 유휴 시간 기준으로 타임아웃
+                .httpRequest(responseTimeout(properties.getTimeouts().getAsk()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM, MediaType.TEXT_PLAIN)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(String.class)
+                .transformDeferred(guardFlux(ASK))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("❌ 질문 스트리밍 실패: {}", e.getMessage());
+                    return new CustomException(ErrorCode.AI_SERVER_COMMUNICATION_ERROR);
+                });
     }
+
     // ======================================
     // LLM 보완
+    //  - 논블로킹: 퀴즈별 보강 요청을 enrichConcurrency 개까지 동시에 수행
+    //  - 실패한 문항은 원본 그대로 유지 (세트 전체를 실패시키지 않음)
     // ======================================
-    private QuizResponseDto enrichWithLLM(QuizResponseDto quiz) {
-        try {
-            if (quiz == null) return null;
-
-            boolean needsFix = quiz.getCorrectAnswer() == null ||
-                    quiz.getCorrectAnswer().equals("정답 정보 없음") ||
-                    quiz.getExplanation() == null ||
-                    quiz.getExplanation().equals("해설 정보 없음");
-
-            if (!needsFix) return quiz;
-
-            String prompt = String.format("""
-                문제: %s
-                보기: %s
-
-                보기 중 올바른 정답과 이유를 아래 JSON 형식으로 작성하세요.
-                {
-                    "correct_answer": "(정답 전체 문장)",
-                    "explanation": "(정답 이유 한 줄)"
-                }
-            """, quiz.getQuestion(), String.join(", ", quiz.getOptions()));
-
-            Map<String, Object> requestBody = Map.of(
-                    "model", "gpt-4o-mini",
-                    "messages", List.of(Map.of("role", "user", "content", prompt))
-            );
-
-            Map<String, Object> response = webClient.post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .header("Authorization", "Bearer " + openaiApiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
+    private Mono<QuizResponseDto> enrichWithLLM(QuizResponseDto quiz) {
+        boolean needsFix = quiz.getCorrectAnswer() == null ||
+                quiz.getCorrectAnswer().equals("정답 정보 없음") ||
+                quiz.getExplanation() == null ||
+                quiz.getExplanation().equals("해설 정보 없음");
+
+        if (!needsFix) return Mono.just(quiz);
+
+        String prompt = String.format("""
+            문제: %s
+            보기: %s
+
+            보기 중 올바른 정답과 이유를 아래 JSON 형식으로 작성하세요.
+            {
+                "correct_answer": "(정답 전체 문장)",
+                "explanation": "(정답 이유 한 줄)"
+            }
+        """, quiz.getQuestion(), String.join(", ", quiz.getOptions()));
+
+        Map<String, Object> requestBody = Map.of(
+                "model", "gpt-4o-mini",
+                "messages", List.of(Map.of("role", "user", "content", prompt))
+        );
+
+        return webClient.post()
+                .uri("https://api.openai.com/v1/chat/completions")
+                .header("Authorization", "Bearer " + openaiApiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(AiChatCompletionResponse.class)
+                .doOnNext(response -> payloadLogger.log("llm", "response", response))
+                .map(response -> applyLlmAnswer(quiz, response))
+                .defaultIfEmpty(quiz)
+                .onErrorResume(e -> {
+                    log.error("⚠️ LLM 보완 오류: {}", e.getMessage());
+                    return Mono.just(quiz);
+                });
+    }
 
-            if (response != null && response.containsKey("choices")) {
-                Map<String, Object> choice = ((List<Map<String, Object>>) response.get("choices")).get(0);
-                Map<String, Object> message = (Map<String, Object>) choice.get("message");
-                String content = message.get("content").toString().trim();
+    private QuizResponseDto applyLlmAnswer(QuizResponseDto quiz, AiChatCompletionResponse response) {
+        try {
+            String content = response.firstContent();
+            if (content != null) {
                 content = content.replace("```json", "").replace("```", "").trim();
 
-                Map<String, Object> parsed = new ObjectMapper().readValue(content, Map.class);
-                quiz.setCorrectAnswer(parsed.getOrDefault("correct_answer", "정답 정보 없음").toString());
-                quiz.setExplanation(parsed.getOrDefault("explanation", "해설 정보 없음").toString());
+                AiChatCompletionResponse.QuizFix parsed =
+                        objectMapper.readValue(content, AiChatCompletionResponse.QuizFix.class);
+                quiz.setCorrectAnswer(parsed.getCorrectAnswer() != null ? parsed.getCorrectAnswer() : "정답 정보 없음");
+                quiz.setExplanation(parsed.getExplanation() != null ? parsed.getExplanation() : "해설 정보 없음");
             }
         } catch (Exception e) {
             log.error("⚠️ LLM 보완 오류: {}", e.getMessage());
@@ -246,93 +289,84 @@ public class PythonServerClient {
     // ======================================
     // 퀴즈 생성 (FastAPI 경로 수정 완료)
     // ======================================
-    public List<QuizResponseDto> generateQuiz(Long contentId, List<String> pdfPaths, int numQuestions, String difficulty) {
-        try {
-            Map<String, Object> body = new LinkedHashMap<>();
-            body.put("pdf_paths", pdfPaths);
-            body.put("num_questions", numQuestions);
-            body.put("difficulty", difficulty);
-
-            Object responseObj = webClient.post()
-                    .uri("/api/contents/{contentId}/quiz/generate", contentId)  // ✅ FastAPI 경로 일치
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(Object.class)
-                    .block();
-
-            if (responseObj == null) {
-                log.error("Python 서버 응답이 null입니다.");
-                return Collections.emptyList();
-            }
-
-            List<QuizResponseDto> quizzes = new ArrayList<>();
-
-            if (responseObj instanceof List<?>) {
-                quizzes = castToMapList(responseObj).stream()
-                        .map(this::convertToQuizDto)
-                        .collect(Collectors.toList());
-            } else if (responseObj instanceof Map<?, ?> map && map.containsKey("questions")) {
-                Object qObj = map.get("questions");
-                if (qObj instanceof List<?>) {
-                    quizzes = castToMapList(qObj).stream()
-                            .map(this::convertToQuizDto)
-                            .collect(Collectors.toList());
-                }
-            }
+    public Mono<List<QuizResponseDto>> generateQuizAsync(Long contentId, List<String> pdfPaths, int numQuestions, String difficulty) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("pdf_paths", pdfPaths);
+        body.put("num_questions", numQuestions);
+        body.put("difficulty", difficulty);
+
+        return webClient.post()
+                .uri("/api/contents/{contentId}/quiz/generate", contentId)  // ✅ FastAPI 경로 일치
+                .httpRequest(responseTimeout(properties.getTimeouts().getQuiz()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                // 응답 트리(Map/List)를 만들지 않고 스트리밍 파서로 문항만 추출
+                .bodyToMono(AiQuizPayload.class)
+                .doOnNext(payload -> payloadLogger.log("quiz", "response", payload))
+                .transformDeferred(guard(QUIZ))
+                // 문항별 LLM 보강: 최대 enrichConcurrency 개 동시 요청, 결과는 문항 순서 유지
+                .flatMap(payload -> Flux.fromIterable(toQuizList(payload))
+                        .flatMapSequential(this::enrichWithLLM, enrichConcurrency)
+                        .collectList())
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("Python 서버 응답이 null입니다.");
+                    return Collections.emptyList();
+                }))
+                .onErrorResume(e -> !(e instanceof CustomException), e -> {
+                    log.error("🚨 퀴즈 생성 요청 실패", e);
+                    return Mono.just(Collections.emptyList());
+                });
+    }
 
-            return quizzes.stream()
-                    .map(this::enrichWithLLM)
-                    .collect(Collectors.toList());
+    public List<QuizResponseDto> generateQuiz(Long contentId, List<String> pdfPaths, int numQuestions, String difficulty) {
+        return generateQuizAsync(contentId, pdfPaths, numQuestions, difficulty).block();
+    }
 
-        } catch (Exception e) {
-            log.error("🚨 퀴즈 생성 요청 실패", e);
-            return Collections.emptyList();
-        }
+    private List<QuizResponseDto> toQuizList(AiQuizPayload payload) {
+        if (payload.getQuestions() == null) return Collections.emptyList();
+        // 변환 실패 문항(null) 제외
+        return payload.getQuestions().stream()
+                .map(this::toQuizDto)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
-    private QuizResponseDto convertToQuizDto(Map<String, Object> item) {
+    private QuizResponseDto toQuizDto(AiQuizItem item) {
         try {
-            String question = "";
-            List<String> options = new ArrayList<>();
-            String correct = "";
-            String explanation = "";
-
-            if (item.containsKey("question"))
-                question = safeToString(item.get("question"));
-            else if (item.containsKey("question_text"))
-                question = safeToString(item.get("question_text"));
-            else if (item.containsKey("quiz_text"))
-                question = safeToString(item.get("quiz_text"));
-
-            question = Arrays.stream(question.split("\n"))
-                    .filter(line -> !line.matches("^[a-dA-D]\\).*"))
+            String question = item.getQuestion() != null ? item.getQuestion()
+                    : item.getQuestionText() != null ? item.getQuestionText()
+                    : item.getQuizText() != null ? item.getQuizText()
+                    : "";
+
+            question = LINE_BREAK.splitAsStream(question)
+                    .filter(line -> !OPTION_LINE.matcher(line).matches())
                     .map(String::trim)
                     .collect(Collectors.joining(" "))
-                    .replaceAll("---", "")
+                    .replace("---", "")
                     .trim();
 
-            if (item.containsKey("options"))
-                options = parseOptions(item.get("options"));
-            else if (item.containsKey("question_text")) {
-                String qText = safeToString(item.get("question_text"));
-                options = Arrays.stream(qText.split("\n"))
-                        .filter(l -> l.matches("^[a-dA-D]\\).*"))
+            List<String> options = Collections.emptyList();
+            if (item.getOptions() != null) {
+                options = item.getOptions();
+            } else if (item.getQuestionText() != null) {
+                options = LINE_BREAK.splitAsStream(item.getQuestionText())
+                        .filter(line -> OPTION_LINE.matcher(line).matches())
                         .map(String::trim)
                         .collect(Collectors.toList());
             }
 
-            correct = safeToString(item.get("correct_answer"));
-            explanation = safeToString(item.get("explanation"));
+            String correct = item.getCorrectAnswer();
+            String explanation = item.getExplanation();
 
             if (question.isBlank()) question = "문제 정보 없음";
-            if (options.isEmpty()) options = List.of("보기1", "보기2", "보기3", "보기4");
+            if (options.isEmpty()) options = DEFAULT_OPTIONS;
 
             return QuizResponseDto.builder()
                     .question(question)
                     .options(options)
-                    .correctAnswer(correct.isBlank() ? "정답 정보 없음" : correct)
-                    .explanation(explanation.isBlank() ? "해설 정보 없음" : explanation)
+                    .correctAnswer(correct == null || correct.isBlank() ? "정답 정보 없음" : correct)
+                    .explanation(explanation == null || explanation.isBlank() ? "해설 정보 없음" : explanation)
                     .build();
 
         } catch (Exception e) {
@@ -341,36 +375,11 @@ public class PythonServerClient {
         }
     }
 
-    private List<String> parseOptions(Object obj) {
-        try {
-            if (obj instanceof List<?>) {
-                return ((List<?>) obj).stream().map(Object::toString).collect(Collectors.toList());
-            } else if (obj instanceof Map<?, ?> map) {
-                return map.values().stream().map(Object::toString).collect(Collectors.toList());
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ options 파싱 실패: {}", obj);
-        }
-        return List.of("보기1", "보기2", "보기3", "보기4");
-    }
-
-    private List<Map<String, Object>> castToMapList(Object obj) {
-        try {
-            return (List<Map<String, Object>>) obj;
-        } catch (Exception e) {
-            log.error("⚠️ Map 리스트 변환 실패: {}", obj, e);
-            return Collections.emptyList();
-        }
-    }
-
-    private String safeToString(Object obj) {
-        return obj != null ? obj.toString() : "";
-    }
-
     // ======================================
     // FastAPI 호환 채점 요청
     // ======================================
-    public Map<String, Object> gradeQuiz(List<String> pdfPaths, List<QuizGradeRequest.Answer> answers) {
+    /** @return 채점 결과 (응답 없음/오류 시 null) */
+    public AiGradeResponse gradeQuiz(List<String> pdfPaths, List<QuizGradeRequest.Answer> answers) {
         try {
             List<String> normalizedPaths = pdfPaths.stream()
                     .filter(Objects::nonNull)
@@ -391,52 +400,74 @@ public class PythonServerClient {
             body.put("pdf_paths", normalizedPaths);
             body.put("answers", validAnswers);
 
-            log.info("📤 [FastAPI 채점 요청 바디] {}", new ObjectMapper().writeValueAsString(body));
+            log.info("📤 [FastAPI 채점 요청] 문항 수={}", validAnswers.size());
+            payloadLogger.log("grade", "request", body);
 
-            Map<String, Object> response = webClient.post()
+            AiGradeResponse response = webClient.post()
                     .uri("/quiz/grade")
+                    .httpRequest(responseTimeout(properties.getTimeouts().getQuiz()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(body)
                     .retrieve()
-                    .bodyToMono(Map.class)
+                    .bodyToMono(AiGradeResponse.class)
+                    .transformDeferred(guard(GRADE))
+                    .transform(callPolicy.retryOnConnectionError(GRADE))
                     .block();
 
-            if (response == null || response.isEmpty()) {
-                return Map.of("message", "채점 실패: 응답 없음");
-            }
-
-            log.info("✅ [FastAPI 채점 결과 수신] {}", new ObjectMapper().writeValueAsString(response));
-
-            List<Map<String, Object>> results = new ArrayList<>();
-            int correctCount = 0;
-            int totalScore = 0;
-
-            Object rawResults = response.get("results");
-            if (rawResults instanceof List<?>) {
-                for (Object obj : (List<?>) rawResults) {
-                    Map<String, Object> r = (Map<String, Object>) obj;
-                    results.add(r);
-                    if (Boolean.TRUE.equals(r.get("is_correct"))) correctCount++;
-                    if (r.get("score") instanceof Number num) totalScore += num.intValue();
-                }
+            if (response == null || (response.getResults() == null && response.getFinalTotalScore() == null)) {
+                log.warn("⚠️ [FastAPI 채점 실패] 응답 없음");
+                return null;
             }
 
-            int totalQuestions = results.size();
-            int finalScore = response.containsKey("final_total_score")
-                    ? ((Number) response.get("final_total_score")).intValue()
-                    : totalScore;
-
-            Map<String, Object> resultBody = new LinkedHashMap<>();
-            resultBody.put("final_total_score", finalScore);
-            resultBody.put("correct_count", correctCount);
-            resultBody.put("total_questions", totalQuestions);
-            resultBody.put("results", results);
-
-            return resultBody;
+            payloadLogger.log("grade", "response", response);
+            return response;
 
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("🚨 채점 요청 중 오류 발생", e);
-            return Map.of("message", "채점 중 오류 발생");
+            return null;
         }
     }
-}
\ No newline at end of file
+
+    // ======================================
+    // 서킷브레이커 + 벌크헤드 (작업별 격리)
+    //  - 서킷 open → 즉시 503 (AI_SERVER_CIRCUIT_OPEN)
+    //  - 동시 호출 상한 초과 → 즉시 503 (AI_SERVER_BUSY)
+    // ======================================
+    private <T> Function<Mono<T>, Mono<T>> guard(String name) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        return call -> call
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(CallNotPermittedException.class, e -> {
+                    log.warn("⛔ 서킷 OPEN → 호출 차단 | op={}", name);
+                    return new CustomException(ErrorCode.AI_SERVER_CIRCUIT_OPEN);
+                })
+                .onErrorMap(BulkheadFullException.class, e -> {
+                    log.warn("⛔ 동시 호출 상한 초과 → 호출 차단 | op={}", name);
+                    return new CustomException(ErrorCode.AI_SERVER_BUSY);
+                });
+    }
+
+    private <T> Function<Flux<T>, Flux<T>> guardFlux(String name) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        return call -> call
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(CallNotPermittedException.class, e -> new CustomException(ErrorCode.AI_SERVER_CIRCUIT_OPEN))
+                .onErrorMap(BulkheadFullException.class, e -> new CustomException(ErrorCode.AI_SERVER_BUSY));
+    }
+
+    // ======================================
+    // 작업별 응답 타임아웃 (python.server.timeouts.*)
+    // ======================================
+    private static Consumer<ClientHttpRequest> responseTimeout(Duration timeout) {
+        return request -> {
+            HttpClientRequest nativeRequest = request.getNativeRequest();
+            nativeRequest.responseTimeout(timeout);
+        };
+    }
+}
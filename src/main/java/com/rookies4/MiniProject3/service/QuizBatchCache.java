@@ -0,0 +1,136 @@
+package com.rookies4.MiniProject3.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rookies4.MiniProject3.domain.entity.Quiz;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 퀴즈 회차 조회 응답 캐시 ((contentId, batch) → 직렬화된 JSON 바이트 + gzip 바이트 + ETag)
+ * - 한 번 저장된 회차는 바뀌지 않으므로 무효화 없이 용량(바이트)/미사용 시간으로만 제거
+ * - 같은 회차 동시 조회(시험 시작 시 몰림)는 키 단위로 1회만 DB 조회/직렬화
+ * - 메트릭: cache.gets{cache=quiz.batch}
+ */
+@Slf4j
+@Component
+public class QuizBatchCache {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final Cache<BatchKey, Entry> cache;
+    private final ObjectMapper objectMapper;
+
+    public QuizBatchCache(ObjectMapper objectMapper,
+                          @Value("${quiz.batch-cache.max-size:64MB}") DataSize maxSize,
+                          @Value("${quiz.batch-cache.expire-after-access:12h}") Duration expireAfterAccess,
+                          MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((BatchKey key, Entry entry) -> entry.json().length + entry.gzip().length)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "quiz.batch");
+    }
+
+    public Optional<Entry> getIfPresent(Long contentId, int batch) {
+        return Optional.ofNullable(cache.getIfPresent(new BatchKey(contentId, batch)));
+    }
+
+    /** 캐시에 없으면 loader로 조회 후 직렬화 (빈 회차는 캐시하지 않음 → empty) */
+    public Optional<Entry> get(Long contentId, int batch, Supplier<List<Quiz>> loader) {
+        return Optional.ofNullable(cache.get(new BatchKey(contentId, batch), key -> {
+            List<Quiz> quizzes = loader.get();
+            if (quizzes.isEmpty()) return null;
+            return build(contentId, batch, quizzes);
+        }));
+    }
+
+    // ==========================================================
+    // 직렬화 (GET /api/contents/{id}/quiz 응답 형식)
+    // ==========================================================
+    private Entry build(Long contentId, int batch, List<Quiz> quizzes) {
+        try {
+            List<Map<String, Object>> items = new ArrayList<>(quizzes.size());
+            for (Quiz q : quizzes) {
+                Map<String, Object> map = new LinkedHashMap<>();
+                map.put("quiz_id", q.getQuizId());
+                map.put("quiz_batch", q.getQuizBatch());
+                map.put("question", q.getQuestion());
+                map.put("options", parseOptions(q.getOptions()));
+                map.put("correct_answer", q.getCorrectAnswer());
+                map.put("explanation", q.getExplanation());
+                items.add(map);
+            }
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("status", "success");
+            body.put("content_id", contentId);
+            body.put("quiz_batch", batch);
+            body.put("quiz_count", items.size());
+            body.put("quizzes", items);
+
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            log.info("🗃️ 퀴즈 회차 응답 캐시 | contentId={} | batch={} | bytes={}", contentId, batch, json.length);
+            String etag = etag(json);
+            return new Entry(json, gzip(json), etag, gzipEtag(etag));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // JSON 컬럼 값 → 보기 목록 (드라이버에 따라 JSON 문자열로 한 번 더 감싸져 오는 경우도 처리)
+    private List<String> parseOptions(String optionsJson) throws IOException {
+        JsonNode node = objectMapper.readTree(optionsJson);
+        if (node.isTextual()) node = objectMapper.readTree(node.asText());
+        return objectMapper.convertValue(node, STRING_LIST);
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // gzip 표현은 바이트가 다르므로 별도 strong ETag ("...-gz")
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    private record BatchKey(Long contentId, int batch) {
+    }
+
+    /** 직렬화된 응답 (json: 원본, gzip: Content-Encoding: gzip 용, 표현별 ETag) */
+    public record Entry(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.dto.QuizResponseDto;
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 퀴즈 사전 생성 풀 ((contentId, 난이도)별 미리 만든 문항 세트 target-depth 개 유지)
+ * - 생성 요청 → 풀에 있으면 즉시 꺼내 사용(저장 시 새 batch), 없으면 기존대로 동기 생성
+ * - 한 번이라도 요청된 (콘텐츠, 난이도)만 채움 / demand-ttl 동안 요청이 없으면 풀에서 제외
+ * - 채우기: AI 서버 유휴(FastAPI 벌크헤드 전부 비어 있음)일 때만, 한 번에 한 세트씩 (논블로킹)
+ * - vectorPath 변경 시 해당 콘텐츠의 미리 만든 세트 폐기
+ * - 메트릭: quiz.pool.depth, quiz.pool.claims{result=hit|miss}, quiz.pool.hit.ratio, quiz.pool.generated
+ */
+@Slf4j
+@Component
+public class QuizPool {
+
+    private static final String BULKHEAD_PREFIX = "python-";
+
+    private final PythonServerClient pythonClient;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    private final boolean enabled;
+    private final int targetDepth;
+    private final int batchSize;
+    private final int maxKeys;
+    private final Duration demandTtl;
+
+    private final Map<PoolKey, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter generated;
+
+    public QuizPool(PythonServerClient pythonClient,
+                    BulkheadRegistry bulkheadRegistry,
+                    MeterRegistry meterRegistry,
+                    @Value("${quiz.pool.enabled:false}") boolean enabled,
+                    @Value("${quiz.pool.target-depth:2}") int targetDepth,
+                    @Value("${quiz.pool.batch-size:5}") int batchSize,
+                    @Value("${quiz.pool.max-keys:200}") int maxKeys,
+                    @Value("${quiz.pool.demand-ttl:24h}") Duration demandTtl) {
+        this.pythonClient = pythonClient;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.enabled = enabled;
+        this.targetDepth = targetDepth;
+        this.batchSize = batchSize;
+        this.maxKeys = maxKeys;
+        this.demandTtl = demandTtl;
+
+        Gauge.builder("quiz.pool.depth", slots, s -> s.values().stream().mapToInt(slot -> slot.ready.size()).sum())
+                .description("미리 생성된 퀴즈 세트 수")
+                .register(meterRegistry);
+        this.hits = Counter.builder("quiz.pool.claims").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("quiz.pool.claims").tag("result", "miss").register(meterRegistry);
+        this.generated = Counter.builder("quiz.pool.generated")
+                .description("백그라운드로 미리 생성한 퀴즈 세트 수")
+                .register(meterRegistry);
+        Gauge.builder("quiz.pool.hit.ratio", this, QuizPool::hitRatio)
+                .description("퀴즈 생성 요청 중 풀에서 바로 처리된 비율")
+                .register(meterRegistry);
+    }
+
+    // ==========================================================
+    // ✅ 풀에서 세트 꺼내기 (요청 문항 수 ≤ 세트 크기일 때만, 요청보다 적은 세트는 반환하지 않음)
+    //  - 적중/실패와 관계없이 수요로 기록
+    //  - 적중 시 바로 채우기 시도, 실패 시엔 지금 진행될 동기 생성과 겹치지 않도록 다음 주기에 채움
+    // ==========================================================
+    public Optional<List<QuizResponseDto>> claim(Long contentId, String difficulty, int numQuestions, List<String> pdfPaths) {
+        if (!enabled) return Optional.empty();
+
+        PoolKey key = new PoolKey(contentId, normalize(difficulty));
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            if (slots.size() >= maxKeys) {
+                misses.increment();
+                return Optional.empty();
+            }
+            slot = slots.computeIfAbsent(key, k -> new Slot());
+        }
+        slot.pdfPaths = pdfPaths;
+        slot.difficulty = difficulty;
+        slot.lastDemandAt = System.currentTimeMillis();
+
+        List<QuizResponseDto> batch = (numQuestions <= batchSize) ? slot.ready.pollFirst() : null;
+        if (batch != null && batch.size() < numQuestions) {
+            // FastAPI가 batch-size보다 적게 만든 세트 → 요청 문항 수를 못 채우므로 되돌려 두고 동기 생성
+            slot.ready.addFirst(batch);
+            batch = null;
+        }
+        if (batch == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        refill();
+        log.info("🎯 미리 생성된 퀴즈 세트 사용 | contentId={} | difficulty={} | remaining={}",
+                contentId, key.difficulty(), slot.ready.size());
+        return Optional.of(List.copyOf(batch.subList(0, numQuestions)));
+    }
+
+    // ==========================================================
+    // ✅ 백그라운드 채우기 (주기 실행 + claim 직후)
+    // ==========================================================
+    @Scheduled(fixedDelayString = "${quiz.pool.refill-interval:PT30S}")
+    public void refill() {
+        if (!enabled || slots.isEmpty()) return;
+        evictIdleSlots();
+        if (!aiServerIdle()) return;
+
+        // 가장 비어 있는 슬롯부터
+        Optional<Map.Entry<PoolKey, Slot>> target = slots.entrySet().stream()
+                .filter(e -> e.getValue().ready.size() < targetDepth && e.getValue().pdfPaths != null)
+                .min(Comparator.comparingInt(e -> e.getValue().ready.size()));
+        if (target.isEmpty() || !refilling.compareAndSet(false, true)) return;
+
+        PoolKey key = target.get().getKey();
+        Slot slot = target.get().getValue();
+        long generation = slot.generation;
+
+        pythonClient.generateQuizAsync(key.contentId(), slot.pdfPaths, batchSize, slot.difficulty)
+                .doFinally(signal -> refilling.set(false))
+                .subscribe(quizzes -> {
+                    // 생성 중 vectorPath가 바뀌었으면 이전 문서 기준 세트이므로 버림
+                    if (quizzes.isEmpty() || slot.generation != generation || slots.get(key) != slot) return;
+                    slot.ready.addLast(quizzes);
+                    generated.increment();
+                    log.info("🧺 퀴즈 세트 미리 생성 | contentId={} | difficulty={} | depth={}",
+                            key.contentId(), key.difficulty(), slot.ready.size());
+                }, e -> log.warn("⚠️ 퀴즈 사전 생성 실패 | contentId={} | {}", key.contentId(), e.getMessage()));
+    }
+
+    // ==========================================================
+    // ✅ 무효화: 벡터 인덱스가 바뀌면 이전 문서 기준 세트는 폐기
+    // ==========================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentUpdated(ContentUpdatedEvent event) {
+        if (event.getVectorPath() == null) return;
+        slots.forEach((key, slot) -> {
+            if (key.contentId().equals(event.getContentId())) {
+                slot.generation++;
+                slot.ready.clear();
+            }
+        });
+    }
+
+    /** FastAPI 호출용 벌크헤드가 모두 비어 있으면 유휴 */
+    private boolean aiServerIdle() {
+        for (Bulkhead bulkhead : bulkheadRegistry.getAllBulkheads()) {
+            if (!bulkhead.getName().startsWith(BULKHEAD_PREFIX)) continue;
+            Bulkhead.Metrics metrics = bulkhead.getMetrics();
+            if (metrics.getAvailableConcurrentCalls() < metrics.getMaxAllowedConcurrentCalls()) return false;
+        }
+        return true;
+    }
+
+    private void evictIdleSlots() {
+        long cutoff = System.currentTimeMillis() - demandTtl.toMillis();
+        slots.entrySet().removeIf(e -> e.getValue().lastDemandAt < cutoff);
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    private static String normalize(String difficulty) {
+        return difficulty == null ? "MEDIUM" : difficulty.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record PoolKey(Long contentId, String difficulty) {
+    }
+
+    private static final class Slot {
+        private final Deque<List<QuizResponseDto>> ready = new ConcurrentLinkedDeque<>();
+        private volatile List<String> pdfPaths;
+        private volatile String difficulty;   // FastAPI에 그대로 전달할 원래 값
+        private volatile long lastDemandAt = System.currentTimeMillis();
+        private volatile int generation;
+    }
+}
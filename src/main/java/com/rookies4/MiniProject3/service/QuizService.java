@@ -8,14 +8,18 @@ import com.rookies4.MiniProject3.domain.entity.Quiz;
 import com.rookies4.MiniProject3.domain.entity.QuizAttempt;
 import com.rookies4.MiniProject3.dto.QuizGradeRequest;
 import com.rookies4.MiniProject3.dto.QuizResponseDto;
+import com.rookies4.MiniProject3.event.ContentActivityEvent;
 import com.rookies4.MiniProject3.exception.CustomException;
 import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.repository.ContentRepository;
 import com.rookies4.MiniProject3.repository.QuizAttemptRepository;
 import com.rookies4.MiniProject3.repository.QuizRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.regex.Pattern;
@@ -27,6 +31,8 @@ public class QuizService {
 
     private final QuizRepository quizRepository;
     private final QuizAttemptRepository quizAttemptRepository;
+    private final ContentRepository contentRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // 접두 "A. " / "1. " 제거용
@@ -64,11 +70,16 @@ public class QuizService {
     }
 
     // ========== 3) 세트 저장 ==========
+    // 한 트랜잭션으로 저장 → 조회 쪽(QuizBatchCache)에는 커밋된 완전한 회차만 보임
+    // 콘텐츠 행 잠금으로 동기 생성 / QUIZ_GENERATE 작업 / 사전 생성 세트 저장이 같은 회차 번호를 받지 않게 함
+    @Transactional
     public List<Quiz> saveGeneratedQuizSet(Content content, List<QuizResponseDto> quizzesFromLLM) {
         if (content == null) throw new CustomException(ErrorCode.CONTENT_NOT_FOUND);
         if (quizzesFromLLM == null || quizzesFromLLM.isEmpty()) return Collections.emptyList();
 
         try {
+            contentRepository.findByIdForUpdate(content.getId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
             int newBatch = getLatestBatchForContent(content) + 1;
             int startQuizId = quizRepository.findTopByContentOrderByQuizIdDesc(content)
                     .map(q -> q.getQuizId() + 1).orElse(1);
@@ -93,8 +104,11 @@ public class QuizService {
 
             log.info("✅ 퀴즈 세트 저장 완료 (contentId={}, batch={}, count={})",
                     content.getId(), newBatch, savedList.size());
+            eventPublisher.publishEvent(ContentActivityEvent.quizReady(content.getId(), newBatch, savedList.size()));
             return savedList;
 
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❌ saveGeneratedQuizSet 실패: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
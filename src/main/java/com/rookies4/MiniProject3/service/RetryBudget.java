@@ -0,0 +1,73 @@
+package com.rookies4.MiniProject3.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * FastAPI 재시도/헤징 예산 (토큰 버킷)
+ * - 원 요청 1건마다 ratio 만큼 적립, 재시도·헤지 1회마다 1 차감
+ * - 요청이 적을 때를 위해 초당 minPerSecond 만큼 기본 적립
+ * - 예산이 바닥나면 재시도·헤지를 포기 → 장애 시 호출량이 (1 + ratio)배 이상 늘지 않음
+ * - 메트릭: ai.retry.budget.balance, ai.retry.budget.exhausted
+ */
+@Component
+public class RetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double capacity;
+
+    private double balance;
+    private long lastRefillNanos = System.nanoTime();
+
+    private final Counter exhausted;
+
+    public RetryBudget(@Value("${ai.retry.budget.ratio:0.1}") double ratio,
+                       @Value("${ai.retry.budget.min-per-second:1}") double minPerSecond,
+                       @Value("${ai.retry.budget.capacity:20}") double capacity,
+                       MeterRegistry meterRegistry) {
+        this.ratio = Math.max(0.0, ratio);
+        this.minPerSecond = Math.max(0.0, minPerSecond);
+        this.capacity = Math.max(1.0, capacity);
+        this.balance = this.capacity;
+
+        Gauge.builder("ai.retry.budget.balance", this, RetryBudget::balance)
+                .description("남은 재시도/헤지 예산")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("ai.retry.budget.exhausted")
+                .description("예산 부족으로 포기한 재시도/헤지 수")
+                .register(meterRegistry);
+    }
+
+    /** 원 요청 1건 → ratio 적립 */
+    public synchronized void recordRequest() {
+        refill();
+        balance = Math.min(capacity, balance + ratio);
+    }
+
+    /** 재시도/헤지 1회 허용 여부 (허용 시 1 차감) */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (balance >= 1.0) {
+            balance -= 1.0;
+            return true;
+        }
+        exhausted.increment();
+        return false;
+    }
+
+    public synchronized double balance() {
+        refill();
+        return balance;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double seconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        lastRefillNanos = now;
+        balance = Math.min(capacity, balance + seconds * minPerSecond);
+    }
+}
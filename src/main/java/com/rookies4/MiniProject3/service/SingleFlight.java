@@ -0,0 +1,68 @@
+package com.rookies4.MiniProject3.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 동일 AI 작업 요청 합치기 (single-flight)
+ * - (operation, key)가 같은 요청이 진행 중이면 새 호출 없이 진행 중인 결과를 함께 받음
+ * - 완료(성공/실패) 즉시 키 제거 → 결과를 캐시하지 않음
+ * - 메트릭: ai.singleflight.coalesced (합쳐진 요청 수), ai.singleflight.inflight
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ai.singleflight.inflight", inFlight, Map::size)
+                .description("진행 중인 단일 실행 작업 수")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String operation, String key, Supplier<Mono<T>> call) {
+        String flightKey = operation + ":" + key;
+        return Mono.defer(() -> {
+            AtomicBoolean leader = new AtomicBoolean(false);
+            Mono<T> shared = (Mono<T>) inFlight.computeIfAbsent(flightKey, k -> {
+                leader.set(true);
+                return newFlight(k, call);
+            });
+            if (!leader.get()) {
+                Counter.builder("ai.singleflight.coalesced")
+                        .tag("operation", operation)
+                        .register(meterRegistry)
+                        .increment();
+                log.info("🔗 동일 요청 합류 | key={}", flightKey);
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * 첫 구독 시 upstream 1회 실행, 이후 구독자는 같은 결과를 공유 (cache)
+     * - 종료 시 자신이 등록한 항목만 제거 (remove(key, value))
+     * - 한 구독자가 취소해도 다른 구독자를 위해 upstream은 계속 진행
+     */
+    private <T> Mono<T> newFlight(String flightKey, Supplier<Mono<T>> call) {
+        Object[] self = new Object[1];
+        Mono<T> flight = Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(flightKey, self[0]))
+                .cache();
+        self[0] = flight;
+        return flight;
+    }
+}
@@ -0,0 +1,75 @@
+package com.rookies4.MiniProject3.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rookies4.MiniProject3.dto.SummaryDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 저장된 전체 요약 read-through 캐시 (contentId → 요약 + strong ETag)
+ * - 요약 저장 시 즉시 + 커밋 후 한 번 더 무효화 (커밋 전 조회가 이전 값을 다시 채우는 경우 방지)
+ * - 메트릭: cache.gets{cache=summary}
+ */
+@Component
+public class SummaryCache {
+
+    private final Cache<Long, SummaryDto.Cached> cache;
+
+    public SummaryCache(@Value("${summary.cache.max-size:1000}") long maxSize,
+                        @Value("${summary.cache.ttl:1h}") Duration ttl,
+                        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "summary");
+    }
+
+    /** 캐시에 없으면 loader로 조회 후 저장 (loader 예외는 캐시하지 않고 그대로 전파) */
+    public SummaryDto.Cached get(Long contentId, Function<Long, SummaryDto.Response> loader) {
+        return cache.get(contentId, id -> {
+            SummaryDto.Response response = loader.apply(id);
+            return new SummaryDto.Cached(response, etag(response));
+        });
+    }
+
+    public void evict(Long contentId) {
+        cache.invalidate(contentId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(contentId);
+                }
+            });
+        }
+    }
+
+    /** 내용 기반 strong ETag: "sha256(chapter + 요약문)" 앞 16바이트 */
+    private static String etag(SummaryDto.Response response) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(response.getChapter()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(response.getSummaryText()).getBytes(StandardCharsets.UTF_8));
+            byte[] hash = digest.digest();
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
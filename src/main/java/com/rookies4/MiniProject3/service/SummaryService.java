@@ -2,20 +2,29 @@ package com.rookies4.MiniProject3.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.rookies4.MiniProject3.domain.entity.Content;
 import com.rookies4.MiniProject3.domain.entity.Summary;
 import com.rookies4.MiniProject3.dto.SummaryDto;
+import com.rookies4.MiniProject3.event.ContentActivityEvent;
 import com.rookies4.MiniProject3.exception.CustomException;
 import com.rookies4.MiniProject3.exception.ErrorCode;
 import com.rookies4.MiniProject3.repository.SummaryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -24,10 +33,14 @@ import java.util.List;
 public class SummaryService {
 
     private final SummaryRepository summaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SummaryCache summaryCache;
+    private final PlatformTransactionManager transactionManager;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // ==========================================================
     // ✅ [1] 전체 요약 저장 (FastAPI: {"content_id": 1, "summaryText": "..."})
+    //  - (content, chapter=0) 기준 upsert: 재생성해도 행이 늘어나지 않음
     // ==========================================================
     public void saveFullSummary(Content content, String resultJson) {
         try {
@@ -51,14 +64,9 @@ public class SummaryService {
                     ? root.path("key_sentences").toString()
                     : "[]";
 
-            Summary summary = Summary.builder()
-                    .content(content)
-                    .chapter(0) // 전체 요약은 chapter=0
-                    .summaryText(summaryText)
-                    .keySentences(keySentences)
-                    .build();
-
-            summaryRepository.save(summary);
+            upsert(content, 0, summaryText, keySentences); // 전체 요약은 chapter=0
+            summaryCache.evict(content.getId());
+            eventPublisher.publishEvent(ContentActivityEvent.summaryReady(content.getId(), "FULL", 1));
             log.info("✅ 전체 요약 저장 완료 | contentId={}", content.getId());
 
         } catch (DataAccessException e) {
@@ -76,6 +84,8 @@ public class SummaryService {
 
     // ==========================================================
     // ✅ [2] 단원별 요약 저장 (FastAPI: {"summaries": [ { "chapter": "1.1", "summaryText": "..." } ]})
+    //  - 같은 단원 번호("1.1", "1.2" → 1)는 하나로 합쳐서 (content, chapter) 기준 upsert
+    //  - 번호로 해석되지 않는 단원("서론", "부록")은 건너뜀 (chapter=0 전체 요약을 덮어쓰지 않도록)
     // ==========================================================
     public int saveChapterSummaries(Content content, String resultJson) {
         try {
@@ -87,28 +97,40 @@ public class SummaryService {
                 throw new CustomException(ErrorCode.FAILED_TO_PROCESS_CONTENT);
             }
 
-            List<Summary> summaries = new ArrayList<>();
+            Map<Integer, StringBuilder> texts = new LinkedHashMap<>();
+            Map<Integer, ArrayNode> keySentences = new LinkedHashMap<>();
 
             for (JsonNode node : summariesNode) {
-                String chapterValue = node.path("chapter").asText("0");
+                String chapterLabel = node.path("chapter").asText("");
+                Integer chapter = parseChapterNumber(chapterLabel);
+                if (chapter == null) {
+                    log.warn("⚠️ 단원 번호 해석 불가 → 저장 생략 | contentId={} | chapter='{}'", content.getId(), chapterLabel);
+                    continue;
+                }
                 String summaryText = node.path("summaryText").asText("");
-                String keySentences = node.has("key_sentences")
-                        ? node.path("key_sentences").toString()
-                        : "[]";
-
-                Summary summary = Summary.builder()
-                        .content(content)
-                        .chapter(parseChapterNumber(chapterValue))
-                        .summaryText(summaryText)
-                        .keySentences(keySentences)
-                        .build();
-
-                summaries.add(summary);
+
+                StringBuilder text = texts.computeIfAbsent(chapter, c -> new StringBuilder());
+                if (!summaryText.isBlank()) {
+                    if (!text.isEmpty()) text.append("\n\n");
+                    text.append(summaryText);
+                }
+
+                ArrayNode sentences = keySentences.computeIfAbsent(chapter, c -> objectMapper.createArrayNode());
+                JsonNode keyNode = node.path("key_sentences");
+                if (keyNode.isArray()) {
+                    sentences.addAll((ArrayNode) keyNode);
+                } else if (!keyNode.isMissingNode() && !keyNode.isNull()) {
+                    sentences.add(keyNode);
+                }
             }
 
-            summaryRepository.saveAll(summaries);
-            log.info("✅ {}개 단원 요약 저장 완료 | contentId={}", summaries.size(), content.getId());
-            return summaries.size();
+            texts.forEach((chapter, text) ->
+                    upsert(content, chapter, text.toString(), keySentences.get(chapter).toString()));
+
+            summaryCache.evict(content.getId());
+            eventPublisher.publishEvent(ContentActivityEvent.summaryReady(content.getId(), "CHAPTER", texts.size()));
+            log.info("✅ {}개 단원 요약 저장 완료 | contentId={}", texts.size(), content.getId());
+            return texts.size();
 
         } catch (DataAccessException e) {
             log.error("❌ DB 오류: 단원별 요약 저장 실패 - {}", e.getMessage(), e);
@@ -123,25 +145,70 @@ public class SummaryService {
         }
     }
 
-    // ✅ 챕터 문자열("1.1") → 숫자 변환
-    private int parseChapterNumber(String chapterValue) {
+    // ✅ (content, chapter) upsert
+    //  - 별도 트랜잭션으로 실행: 다른 인스턴스 / SUMMARIZE 작업과 refresh 요청이 동시에 insert해
+    //    유니크 제약(uk_summaries_content_chapter)에 걸리면 그 트랜잭션만 롤백 → 다시 조회해서 update
+    private void upsert(Content content, int chapter, String summaryText, String keySentences) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         try {
-            if (chapterValue.contains(".")) {
-                return Integer.parseInt(chapterValue.split("\\.")[0]);
-            }
-            return Integer.parseInt(chapterValue);
+            tx.executeWithoutResult(status -> insertOrUpdate(content, chapter, summaryText, keySentences));
+        } catch (DataIntegrityViolationException e) {
+            log.info("🔁 요약 동시 저장 충돌 → 기존 행 갱신 | contentId={} | chapter={}", content.getId(), chapter);
+            tx.executeWithoutResult(status -> insertOrUpdate(content, chapter, summaryText, keySentences));
+        }
+    }
+
+    //  - 유니크 제약 이전에 생긴 중복 행은 가장 오래된 1개만 남기고 정리
+    private void insertOrUpdate(Content content, int chapter, String summaryText, String keySentences) {
+        List<Summary> existing = summaryRepository.findAllByContentIdAndChapterOrderByIdAsc(content.getId(), chapter);
+        if (existing.isEmpty()) {
+            summaryRepository.save(Summary.builder()
+                    .content(content)
+                    .chapter(chapter)
+                    .summaryText(summaryText)
+                    .keySentences(keySentences)
+                    .build());
+            return;
+        }
+
+        existing.get(0).update(summaryText, keySentences);
+        if (existing.size() > 1) {
+            summaryRepository.deleteAll(existing.subList(1, existing.size()));
+            log.warn("🧹 중복 요약 행 정리 | contentId={} | chapter={} | removed={}",
+                    content.getId(), chapter, existing.size() - 1);
+        }
+    }
+
+    // ✅ 챕터 문자열("1.1") → 숫자 변환, 해석 불가 또는 1 미만이면 null (0은 전체 요약 전용)
+    private Integer parseChapterNumber(String chapterValue) {
+        try {
+            String value = chapterValue.trim();
+            int chapter = value.contains(".")
+                    ? Integer.parseInt(value.split("\\.")[0])
+                    : Integer.parseInt(value);
+            return chapter > 0 ? chapter : null;
         } catch (Exception e) {
-            return 0;
+            return null;
         }
     }
 
     // ==========================================================
-    // ✅ [3] 전체 요약 조회
+    // ✅ [3] 전체 요약 조회 (read-through 캐시 + ETag)
     // ==========================================================
+    @Transactional(readOnly = true)
+    public SummaryDto.Cached getCachedFullSummary(Long contentId) {
+        return summaryCache.get(contentId, this::loadFullSummary);
+    }
+
     @Transactional(readOnly = true)
     public SummaryDto.Response getFullSummaryByContentId(Long contentId) {
+        return getCachedFullSummary(contentId).getBody();
+    }
+
+    private SummaryDto.Response loadFullSummary(Long contentId) {
         try {
-            Summary summary = summaryRepository.findByContentIdAndChapter(contentId, 0)
+            Summary summary = findFirst(contentId, 0)
                     .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
 
             return new SummaryDto.Response(
@@ -156,4 +223,17 @@ public class SummaryService {
             throw new CustomException(ErrorCode.DATABASE_ERROR);
         }
     }
+
+    // ==========================================================
+    // ✅ [4] 저장된 요약 조회 (재생성 요청 단락용: 있으면 FastAPI 호출 생략)
+    // ==========================================================
+    @Transactional(readOnly = true)
+    public Optional<SummaryDto.Response> findStoredSummary(Long contentId, int chapter) {
+        return findFirst(contentId, chapter)
+                .map(summary -> new SummaryDto.Response(summary.getChapter(), summary.getSummaryText()));
+    }
+
+    private Optional<Summary> findFirst(Long contentId, int chapter) {
+        return summaryRepository.findAllByContentIdAndChapterOrderByIdAsc(contentId, chapter).stream().findFirst();
+    }
 }
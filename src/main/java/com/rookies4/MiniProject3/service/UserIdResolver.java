@@ -0,0 +1,49 @@
+package com.rookies4.MiniProject3.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rookies4.MiniProject3.domain.entity.User;
+import com.rookies4.MiniProject3.jwt.AuthUser;
+import com.rookies4.MiniProject3.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증 사용자 → user id
+ * - 토큰에 uid가 있으면 그대로 사용 (DB 조회 없음)
+ * - uid 없는 이전 토큰만 email → id 캐시(크기/TTL 제한) 후 DB 조회
+ */
+@Component
+public class UserIdResolver {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> idsByEmail;
+
+    public UserIdResolver(UserRepository userRepository,
+                          @Value("${auth.user-id-cache.max-size:10000}") long maxSize,
+                          @Value("${auth.user-id-cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<Long> resolve(UserDetails userDetails) {
+        if (userDetails == null) return Optional.empty();
+        if (userDetails instanceof AuthUser authUser && authUser.getId() != null) {
+            return Optional.of(authUser.getId());
+        }
+        return resolve(userDetails.getUsername());
+    }
+
+    public Optional<Long> resolve(String email) {
+        if (email == null) return Optional.empty();
+        // 없는 사용자는 캐시하지 않음 (null 반환)
+        return Optional.ofNullable(idsByEmail.get(email, e -> userRepository.findByEmail(e).map(User::getId).orElse(null)));
+    }
+}
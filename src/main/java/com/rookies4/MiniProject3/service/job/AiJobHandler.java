@@ -0,0 +1,22 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+
+import java.util.Map;
+
+/**
+ * 작업 유형별 실행기
+ * - handle에서 예외를 던지면 재시도 대상 (최대 횟수 초과 시 onDead 호출)
+ */
+public interface AiJobHandler {
+
+    AiJobType type();
+
+    /** @return 작업 결과 (AiJob.result에 저장, null 허용) */
+    Object handle(AiJob job, Map<String, Object> payload) throws Exception;
+
+    /** 재시도를 모두 소진했을 때의 후처리 (예: Content FAILED 표시) */
+    default void onDead(AiJob job) {
+    }
+}
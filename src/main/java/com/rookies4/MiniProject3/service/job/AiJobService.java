@@ -0,0 +1,191 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.enums.AiJobStatus;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.repository.AiJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AI 작업 큐 저장/점유/완료 처리
+ * - enqueue는 호출자의 트랜잭션에 참여 (Content 저장과 작업 등록이 함께 커밋/롤백)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AiJobService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final AiJobRepository aiJobRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public AiJobService(AiJobRepository aiJobRepository,
+                        ObjectMapper objectMapper,
+                        @Value("${ai.job.max-attempts:5}") int maxAttempts,
+                        @Value("${ai.job.initial-backoff:PT10S}") Duration initialBackoff,
+                        @Value("${ai.job.max-backoff:PT10M}") Duration maxBackoff) {
+        this.aiJobRepository = aiJobRepository;
+        this.objectMapper = objectMapper;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    // ==========================================================
+    // 1) 작업 등록
+    // ==========================================================
+    @Transactional
+    public AiJob enqueue(AiJobType type, Long contentId, Map<String, Object> payload) {
+        AiJob job = AiJob.builder()
+                .type(type)
+                .contentId(contentId)
+                .payload(toJson(payload))
+                .status(AiJobStatus.PENDING)
+                .attempts(0)
+                .maxAttempts(maxAttempts)
+                .build();
+        aiJobRepository.save(job);
+        log.info("📮 AI 작업 등록 | jobId={} | type={} | contentId={}", job.getId(), type, contentId);
+        return job;
+    }
+
+    // ==========================================================
+    // 2) 점유 (행 잠금 → RUNNING 표시 후 커밋)
+    // ==========================================================
+    @Transactional
+    public List<AiJob> claim(String workerId, int limit) {
+        if (limit <= 0) return List.of();
+        LocalDateTime now = LocalDateTime.now();
+        List<AiJob> jobs = aiJobRepository.findClaimable(AiJobStatus.PENDING, now, PageRequest.of(0, limit));
+        for (AiJob job : jobs) {
+            job.setStatus(AiJobStatus.RUNNING);
+            job.setLockedBy(workerId);
+            job.setLockedAt(now);
+            job.setAttempts(job.getAttempts() + 1);
+        }
+        return jobs;
+    }
+
+    // ==========================================================
+    // 3) 결과 반영 (workerId가 아직 점유 중일 때만 → lease를 잃은 워커의 결과는 무시)
+    // ==========================================================
+    /** @return 반영되었으면 true */
+    @Transactional
+    public boolean markSucceeded(Long jobId, String workerId, String result) {
+        AiJob job = findOwned(jobId, workerId);
+        if (job == null) return false;
+
+        job.setStatus(AiJobStatus.SUCCEEDED);
+        job.setResult(result);
+        job.setLastError(null);
+        job.setLockedBy(null);
+        job.setLockedAt(null);
+        return true;
+    }
+
+    /** @return 더 이상 재시도하지 않으면(DEAD) true */
+    @Transactional
+    public boolean markFailed(Long jobId, String workerId, String error) {
+        AiJob job = findOwned(jobId, workerId);
+        if (job == null) return false;
+
+        job.setLastError(truncate(error));
+        job.setLockedBy(null);
+        job.setLockedAt(null);
+
+        if (job.getAttempts() >= job.getMaxAttempts()) {
+            job.setStatus(AiJobStatus.DEAD);
+            log.error("💀 AI 작업 DEAD 처리 | jobId={} | type={} | attempts={} | error={}",
+                    jobId, job.getType(), job.getAttempts(), error);
+            return true;
+        }
+
+        Duration delay = backoff(job.getAttempts());
+        job.setStatus(AiJobStatus.PENDING);
+        job.setNextRunAt(LocalDateTime.now().plus(delay));
+        log.warn("🔁 AI 작업 재시도 예약 | jobId={} | type={} | attempt={}/{} | delay={}s | error={}",
+                jobId, job.getType(), job.getAttempts(), job.getMaxAttempts(), delay.toSeconds(), error);
+        return false;
+    }
+
+    // ==========================================================
+    // 4) lease 연장 (실행 중 heartbeat) / 재시작 복구: lease 만료 RUNNING → PENDING
+    // ==========================================================
+    @Transactional
+    public int renewLeases(Collection<Long> jobIds, String workerId) {
+        if (jobIds.isEmpty()) return 0;
+        return aiJobRepository.renewLeases(jobIds, workerId, LocalDateTime.now());
+    }
+
+    @Transactional
+    public int releaseExpiredLeases(Duration leaseTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+        int released = aiJobRepository.releaseExpiredLeases(now.minus(leaseTimeout), now);
+        if (released > 0) {
+            log.warn("♻️ 중단된 AI 작업 {}건 복구", released);
+        }
+        return released;
+    }
+
+    public AiJob getJob(Long jobId) {
+        return aiJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.JOB_NOT_FOUND));
+    }
+
+    public Map<String, Object> readPayload(AiJob job) {
+        try {
+            if (job.getPayload() == null || job.getPayload().isBlank()) return Map.of();
+            return objectMapper.readValue(job.getPayload(), Map.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("잘못된 작업 payload: " + job.getPayload(), e);
+        }
+    }
+
+    public String toJson(Object value) {
+        try {
+            return value == null ? null : objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("작업 데이터 직렬화 실패", e);
+        }
+    }
+
+    private AiJob findOwned(Long jobId, String workerId) {
+        AiJob job = aiJobRepository.findOwned(jobId, workerId).orElse(null);
+        if (job == null) {
+            log.warn("⏭️ lease를 잃은 AI 작업 결과 무시 | jobId={} | worker={}", jobId, workerId);
+        }
+        return job;
+    }
+
+    // initial * 2^(attempt-1), 최대 maxBackoff, ±20% 지터
+    private Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private String truncate(String s) {
+        if (s == null) return null;
+        return s.length() <= MAX_ERROR_LENGTH ? s : s.substring(0, MAX_ERROR_LENGTH);
+    }
+}
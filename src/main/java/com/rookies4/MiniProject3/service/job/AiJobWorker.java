@@ -0,0 +1,129 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 작업 큐 워커
+ * - 주기적으로 빈 슬롯만큼만 작업을 점유 → AI 서버로 나가는 동시 호출 수가 풀 크기로 고정
+ * - 실행 중인 작업은 heartbeat로 lease 연장 (lease-timeout보다 오래 걸리는 작업이 재점유되지 않도록)
+ * - 기동 시 / 주기적으로 lease 만료 작업 복구
+ */
+@Slf4j
+@Component
+public class AiJobWorker {
+
+    private final AiJobService aiJobService;
+    private final ThreadPoolTaskExecutor aiJobExecutor;
+    private final Map<AiJobType, AiJobHandler> handlers = new EnumMap<>(AiJobType.class);
+    private final Duration leaseTimeout;
+    private final String workerId;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public AiJobWorker(AiJobService aiJobService,
+                       @Qualifier("aiJobExecutor") ThreadPoolTaskExecutor aiJobExecutor,
+                       List<AiJobHandler> handlerBeans,
+                       @Value("${ai.job.lease-timeout:PT10M}") Duration leaseTimeout) {
+        this.aiJobService = aiJobService;
+        this.aiJobExecutor = aiJobExecutor;
+        this.leaseTimeout = leaseTimeout;
+        handlerBeans.forEach(h -> handlers.put(h.type(), h));
+        this.workerId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        aiJobService.releaseExpiredLeases(leaseTimeout);
+    }
+
+    @Scheduled(fixedDelayString = "${ai.job.recover-interval:PT1M}")
+    public void recoverPeriodically() {
+        aiJobService.releaseExpiredLeases(leaseTimeout);
+    }
+
+    // lease-timeout보다 충분히 짧게 (기본 1분 / 10분)
+    @Scheduled(fixedDelayString = "${ai.job.heartbeat-interval:PT1M}")
+    public void heartbeat() {
+        if (running.isEmpty()) return;
+        aiJobService.renewLeases(List.copyOf(running), workerId);
+    }
+
+    @Scheduled(fixedDelayString = "${ai.job.poll-interval:PT1S}")
+    public void poll() {
+        int free = aiJobExecutor.getMaxPoolSize() - inFlight.get();
+        if (free <= 0) return;
+
+        List<AiJob> jobs = aiJobService.claim(workerId, free);
+        for (AiJob job : jobs) {
+            inFlight.incrementAndGet();
+            running.add(job.getId());
+            try {
+                aiJobExecutor.execute(() -> run(job));
+            } catch (TaskRejectedException e) {
+                inFlight.decrementAndGet();
+                running.remove(job.getId());
+                aiJobService.markFailed(job.getId(), workerId, "worker rejected: " + e.getMessage());
+            }
+        }
+    }
+
+    private void run(AiJob job) {
+        try {
+            AiJobHandler handler = handlers.get(job.getType());
+            if (handler == null) {
+                throw new IllegalStateException("handler not found for " + job.getType());
+            }
+            log.info("▶️ AI 작업 실행 | jobId={} | type={} | contentId={} | attempt={}",
+                    job.getId(), job.getType(), job.getContentId(), job.getAttempts());
+
+            Object result = handler.handle(job, aiJobService.readPayload(job));
+            if (aiJobService.markSucceeded(job.getId(), workerId, aiJobService.toJson(result))) {
+                log.info("✅ AI 작업 완료 | jobId={} | type={}", job.getId(), job.getType());
+            }
+
+        } catch (Exception e) {
+            boolean dead = aiJobService.markFailed(job.getId(), workerId, e.getClass().getSimpleName() + ": " + e.getMessage());
+            if (dead) {
+                AiJobHandler handler = handlers.get(job.getType());
+                if (handler != null) {
+                    try {
+                        handler.onDead(job);
+                    } catch (Exception ex) {
+                        log.error("⚠️ onDead 처리 실패 | jobId={}", job.getId(), ex);
+                    }
+                }
+            }
+        } finally {
+            running.remove(job.getId());
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "worker";
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.entity.Quiz;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import com.rookies4.MiniProject3.dto.QuizResponseDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.service.ContentService;
+import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.QuizPool;
+import com.rookies4.MiniProject3.service.QuizService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class QuizGenerateJobHandler implements AiJobHandler {
+
+    private final ContentService contentService;
+    private final PythonServerClient pythonClient;
+    private final QuizService quizService;
+    private final QuizPool quizPool;
+
+    @Override
+    public AiJobType type() {
+        return AiJobType.QUIZ_GENERATE;
+    }
+
+    @Override
+    public Object handle(AiJob job, Map<String, Object> payload) {
+        Content content = contentService.findById(job.getContentId());
+        List<String> pdfPaths = contentService.getPdfPaths(content.getId());
+
+        int numQuestions = payload.get("numQuestions") instanceof Number n ? n.intValue() : 5;
+        String difficulty = payload.get("difficulty") != null ? payload.get("difficulty").toString() : "MEDIUM";
+
+        List<QuizResponseDto> generated = quizPool.claim(content.getId(), difficulty, numQuestions, pdfPaths)
+                .orElseGet(() -> pythonClient.generateQuiz(content.getId(), pdfPaths, numQuestions, difficulty));
+        if (generated.isEmpty()) {
+            throw new CustomException(ErrorCode.QUIZ_GENERATION_FAILED);
+        }
+
+        List<Quiz> saved = quizService.saveGeneratedQuizSet(content, generated);
+        int batch = saved.isEmpty() ? -1 : saved.get(0).getQuizBatch();
+        return Map.of("batch", batch, "generatedCount", saved.size());
+    }
+}
@@ -0,0 +1,46 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import com.rookies4.MiniProject3.dto.SummaryDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.repository.ContentRepository;
+import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.SummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class SummarizeChapterJobHandler implements AiJobHandler {
+
+    private final ContentRepository contentRepository;
+    private final PythonServerClient pythonClient;
+    private final SummaryService summaryService;
+
+    @Override
+    public AiJobType type() {
+        return AiJobType.SUMMARIZE_CHAPTER;
+    }
+
+    @Override
+    public Object handle(AiJob job, Map<String, Object> payload) {
+        Content content = contentRepository.findById(job.getContentId())
+                .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
+
+        Integer chapter = payload.get("chapter") instanceof Number n ? n.intValue() : null;
+
+        // 대기 중 다른 요청이 이미 생성했으면 재호출하지 않음 (refresh=true 제외)
+        if (chapter != null && !Boolean.TRUE.equals(payload.get("refresh"))
+                && summaryService.findStoredSummary(content.getId(), chapter).isPresent()) {
+            return Map.of("chapter", chapter, "savedCount", 0, "skipped", true);
+        }
+        String body = pythonClient.summarizeByChapter(content.getId(), new SummaryDto.ChapterRequest(chapter));
+        int saved = summaryService.saveChapterSummaries(content, body);
+        return Map.of("chapter", chapter == null ? 0 : chapter, "savedCount", saved);
+    }
+}
@@ -0,0 +1,45 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.repository.ContentRepository;
+import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.SummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class SummarizeFullJobHandler implements AiJobHandler {
+
+    private final ContentRepository contentRepository;
+    private final PythonServerClient pythonClient;
+    private final SummaryService summaryService;
+
+    @Override
+    public AiJobType type() {
+        return AiJobType.SUMMARIZE_FULL;
+    }
+
+    @Override
+    public Object handle(AiJob job, Map<String, Object> payload) {
+        Content content = contentRepository.findById(job.getContentId())
+                .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
+
+        // 대기 중 다른 요청이 이미 생성했으면 재호출하지 않음 (refresh=true 제외)
+        if (!Boolean.TRUE.equals(payload.get("refresh"))
+                && summaryService.findStoredSummary(content.getId(), 0).isPresent()) {
+            return Map.of("chapter", 0, "skipped", true);
+        }
+
+        // 응답이 JSON이 아니거나 summaryText가 없으면 saveFullSummary가 예외 → 재시도
+        String body = pythonClient.summarizeFull(content.getId());
+        summaryService.saveFullSummary(content, body);
+        return Map.of("chapter", 0);
+    }
+}
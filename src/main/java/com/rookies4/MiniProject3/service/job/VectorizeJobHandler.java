@@ -0,0 +1,32 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import com.rookies4.MiniProject3.service.ContentIngestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class VectorizeJobHandler implements AiJobHandler {
+
+    private final ContentIngestionService contentIngestionService;
+
+    @Override
+    public AiJobType type() {
+        return AiJobType.VECTORIZE;
+    }
+
+    @Override
+    public Object handle(AiJob job, Map<String, Object> payload) {
+        contentIngestionService.vectorize(job.getContentId(), String.valueOf(payload.get("filePath")));
+        return null;
+    }
+
+    @Override
+    public void onDead(AiJob job) {
+        contentIngestionService.markFailed(job.getContentId());
+    }
+}
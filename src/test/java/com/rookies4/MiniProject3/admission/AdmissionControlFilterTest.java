@@ -0,0 +1,120 @@
+package com.rookies4.MiniProject3.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private static final String USER = "alice@example.com";
+
+    private AdmissionLimiter limiter;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("ai.admission.ask.max-concurrent", "2")
+                .withProperty("ai.admission.ask.max-per-user", "1")
+                .withProperty("ai.admission.ask.retry-after", "7")
+                .withProperty("ai.admission.summarize.max-per-user", "1");
+        limiter = new AdmissionLimiter(env, new SimpleMeterRegistry(), Duration.ZERO);
+        filter = new AdmissionControlFilter(limiter, new ObjectMapper());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(USER, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse post(String uri, String async) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (async != null) {
+            request.setParameter("async", async);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void perUserLimitRejectsWith429AndRetryAfter() throws Exception {
+        AdmissionLimiter.Permit held = limiter.tryAcquire(AdmissionOperation.ASK, USER);
+        assertThat(held).isNotNull();
+
+        MockHttpServletResponse response = post("/api/contents/1/ask", null);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+        assertThat(response.getContentAsString()).contains("TOO_MANY_REQUESTS");
+    }
+
+    @Test
+    void globalLimitRejectsOtherUsers() throws Exception {
+        assertThat(limiter.tryAcquire(AdmissionOperation.ASK, "bob")).isNotNull();
+        assertThat(limiter.tryAcquire(AdmissionOperation.ASK, "carol")).isNotNull();
+
+        assertThat(post("/api/contents/1/ask", null).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void permitIsReleasedAfterSyncResponse() throws Exception {
+        assertThat(post("/api/contents/1/ask", null).getStatus()).isEqualTo(200);
+
+        // 앞 요청의 허가가 반환되어야 같은 사용자의 다음 요청도 통과
+        assertThat(post("/api/contents/1/ask", null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void asyncParamOnAskStillCountsAgainstLimits() throws Exception {
+        limiter.tryAcquire(AdmissionOperation.ASK, USER);
+
+        MockHttpServletResponse response = post("/api/contents/1/ask", "true");
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+    }
+
+    @Test
+    void asyncParamOnUploadStillCountsAgainstLimits() throws Exception {
+        for (int i = 0; i < AdmissionOperation.UPLOAD.getDefaultMaxPerUser(); i++) {
+            limiter.tryAcquire(AdmissionOperation.UPLOAD, USER);
+        }
+
+        assertThat(post("/api/contents/upload", "true").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void asyncEnqueueOnSummarizeSkipsAdmission() throws Exception {
+        limiter.tryAcquire(AdmissionOperation.SUMMARIZE, USER);
+
+        assertThat(post("/api/contents/1/summarize", "true").getStatus()).isEqualTo(200);
+        assertThat(post("/api/contents/1/summarize", null).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void unrelatedEndpointsAreNotLimited() throws Exception {
+        limiter.tryAcquire(AdmissionOperation.ASK, USER);
+
+        assertThat(post("/api/contents/1/quiz/grade", null).getStatus()).isEqualTo(200);
+    }
+}
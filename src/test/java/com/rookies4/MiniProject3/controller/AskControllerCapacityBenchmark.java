@@ -0,0 +1,210 @@
+package com.rookies4.MiniProject3.controller;
+
+import com.rookies4.MiniProject3.service.AnswerCache;
+import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * 긴 AI 호출 동안 처리 가능한 동시 요청 수 비교 (Tomcat 워커 스레드 10개, FastAPI 응답 지연 500ms 스텁)
+ * - blocking: 변경 전 방식 (컨트롤러가 block()으로 응답 대기 → 워커 스레드 점유)
+ * - mono    : AskController (Mono 반환 → 대기 중 워커 스레드 반환)
+ * - 1회 측정 = 동시 요청 {requests}건 전체 완료 시간, peakInFlight = FastAPI 스텁에 동시에 걸린 최대 호출 수
+ *   (요약 표의 peakInFlight는 측정 반복 합계 → 반복당 값은 Secondary result의 min/avg/max)
+ *
+ * 실행: mvn -B -Pjmh test-compile exec:exec -Djmh.include=AskControllerCapacityBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AskControllerCapacityBenchmark {
+
+    private static final int TOMCAT_THREADS = 10;
+    private static final Duration AI_DELAY = Duration.ofMillis(500);
+
+    @Param({"100"})
+    private int requests;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient http;
+    private String baseUrl;
+    private StubAiServer stub;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Harness.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "server.tomcat.threads.min-spare=" + TOMCAT_THREADS,
+                        "spring.main.banner-mode=off")
+                .run();
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/contents/1";
+        stub = context.getBean(StubAiServer.class);
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int blocking(Capacity capacity) {
+        return fire("/ask-blocking", capacity);
+    }
+
+    @Benchmark
+    public int mono(Capacity capacity) {
+        return fire("/ask", capacity);
+    }
+
+    /** 동시 요청 전송 후 전부 완료될 때까지 대기 (200 응답 수 반환) */
+    private int fire(String path, Capacity capacity) {
+        stub.reset();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"question\": \"질문 " + i + "\"}"))
+                    .build();
+            responses.add(http.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) ok++;
+        }
+        if (ok != requests) {
+            throw new IllegalStateException("실패 응답 " + (requests - ok) + "건");
+        }
+        capacity.peakInFlight = stub.peak.get();
+        return ok;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Capacity {
+        public long peakInFlight;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakInFlight = 0;
+        }
+    }
+
+    // ============================================
+    // FastAPI 스텁: 지연 후 응답, 동시 호출 수 기록
+    // ============================================
+    static class StubAiServer {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        Mono<String> answer() {
+            return Mono.defer(() -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return Mono.delay(AI_DELAY).map(tick -> "답변")
+                        .doFinally(signal -> inFlight.decrementAndGet());
+            });
+        }
+
+        void reset() {
+            peak.set(0);
+        }
+    }
+
+    /** 변경 전 컨트롤러 형태: 서블릿 스레드에서 FastAPI 응답을 block()으로 대기 */
+    @RestController
+    @RequestMapping("/api/contents")
+    static class BlockingAskController {
+
+        private final PythonServerClient pythonServerClient;
+
+        BlockingAskController(PythonServerClient pythonServerClient) {
+            this.pythonServerClient = pythonServerClient;
+        }
+
+        @PostMapping("/{contentId}/ask-blocking")
+        public ResponseEntity<?> askQuestion(@PathVariable("contentId") Long contentId,
+                                             @RequestBody Map<String, Object> requestBody) {
+            String question = (String) requestBody.get("question");
+            return ResponseEntity.ok(pythonServerClient.askQuestionAsync(contentId, question, false).block());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class
+    })
+    @Import({AskController.class, BlockingAskController.class})
+    static class Harness {
+
+        @Bean
+        StubAiServer stubAiServer() {
+            return new StubAiServer();
+        }
+
+        @Bean
+        PythonServerClient pythonServerClient(StubAiServer stub) {
+            PythonServerClient client = Mockito.mock(PythonServerClient.class);
+            Mockito.when(client.askQuestionAsync(anyLong(), anyString(), anyBoolean()))
+                    .thenAnswer(invocation -> stub.answer());
+            return client;
+        }
+
+        @Bean
+        SingleFlight singleFlight() {
+            return new SingleFlight(new SimpleMeterRegistry());
+        }
+
+        @Bean
+        AnswerCache answerCache() {
+            // 요청마다 다른 질문이라 적중은 없지만, 저장도 하지 않도록 크기 0
+            return new AnswerCache(0, Duration.ofMinutes(1), false, 10, new SimpleMeterRegistry());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.rookies4.MiniProject3.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.domain.entity.Quiz;
+import com.rookies4.MiniProject3.service.ContentService;
+import com.rookies4.MiniProject3.service.ProgressService;
+import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.QuizBatchCache;
+import com.rookies4.MiniProject3.service.QuizPool;
+import com.rookies4.MiniProject3.service.QuizService;
+import com.rookies4.MiniProject3.service.SingleFlight;
+import com.rookies4.MiniProject3.service.job.AiJobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class QuizControllerTest {
+
+    private final ContentService contentService = mock(ContentService.class);
+    private QuizBatchCache.Entry entry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        QuizBatchCache cache = new QuizBatchCache(new ObjectMapper(), DataSize.ofMegabytes(1),
+                Duration.ofHours(1), new SimpleMeterRegistry());
+        entry = cache.get(1L, 1, () -> List.of(Quiz.builder()
+                .quizId(1)
+                .quizBatch(1)
+                .question("질문")
+                .options("[\"a\",\"b\"]")
+                .correctAnswer("a")
+                .explanation("해설")
+                .build())).orElseThrow();
+
+        QuizController controller = new QuizController(contentService, mock(PythonServerClient.class),
+                mock(ProgressService.class), mock(QuizService.class), mock(AiJobService.class),
+                mock(SingleFlight.class), cache, mock(QuizPool.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    private MockHttpServletResponse fetch(String acceptEncoding, String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/contents/1/quiz").param("batch", "1");
+        if (acceptEncoding != null) request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        if (ifNoneMatch != null) request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private static void assertIdentity(MockHttpServletResponse response, QuizBatchCache.Entry entry) {
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(entry.etag());
+        assertThat(response.getContentAsByteArray()).isEqualTo(entry.json());
+    }
+
+    @Test
+    void gzipAcceptedServesPrecompressedBodyWithOwnEtag() throws Exception {
+        MockHttpServletResponse response = fetch("gzip, deflate, br", null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(entry.gzipEtag()).isNotEqualTo(entry.etag());
+        assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(entry.json());
+        }
+        // 캐시 적중 → 콘텐츠 조회 없음
+        verifyNoInteractions(contentService);
+    }
+
+    @Test
+    void noAcceptEncodingServesIdentity() throws Exception {
+        MockHttpServletResponse response = fetch(null, null);
+
+        assertIdentity(response, entry);
+        assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void qValuesAreHonoured() throws Exception {
+        assertIdentity(fetch("gzip;q=0", null), entry);
+        assertIdentity(fetch("gzip;q=0, *;q=1", null), entry);
+        assertIdentity(fetch("*;q=0", null), entry);
+
+        assertThat(fetch("*", null).getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(fetch("x-gzip;q=0.5, identity", null).getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    void matchingEtagReturns304PerRepresentation() throws Exception {
+        MockHttpServletResponse gzip = fetch("gzip", entry.gzipEtag());
+        assertThat(gzip.getStatus()).isEqualTo(304);
+        assertThat(gzip.getContentAsByteArray()).isEmpty();
+
+        assertThat(fetch(null, entry.etag()).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void etagOfOtherRepresentationDoesNotMatch() throws Exception {
+        // identity 응답의 ETag로 gzip 표현을 재검증하면 304가 아니라 새 본문
+        MockHttpServletResponse response = fetch("gzip", entry.etag());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+        assertIdentity(fetch(null, entry.gzipEtag()), entry);
+    }
+}
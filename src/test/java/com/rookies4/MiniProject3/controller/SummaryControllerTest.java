@@ -0,0 +1,64 @@
+package com.rookies4.MiniProject3.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.dto.SummaryDto;
+import com.rookies4.MiniProject3.repository.ContentRepository;
+import com.rookies4.MiniProject3.service.PythonServerClient;
+import com.rookies4.MiniProject3.service.SingleFlight;
+import com.rookies4.MiniProject3.service.SummaryService;
+import com.rookies4.MiniProject3.service.job.AiJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SummaryControllerTest {
+
+    private static final String ETAG = "\"abc123\"";
+
+    private final SummaryService summaryService = mock(SummaryService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SummaryController controller = new SummaryController(mock(PythonServerClient.class), summaryService,
+                mock(ContentRepository.class), new ObjectMapper(), mock(AiJobService.class), mock(SingleFlight.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(summaryService.getCachedFullSummary(1L))
+                .thenReturn(new SummaryDto.Cached(new SummaryDto.Response(0, "전체 요약"), ETAG));
+    }
+
+    @Test
+    void firstReadReturnsBodyWithEtag() throws Exception {
+        mockMvc.perform(get("/api/contents/1/summarize"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.chapter").value(0))
+                .andExpect(jsonPath("$.summaryText").value("전체 요약"));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturns304WithoutBody() throws Exception {
+        mockMvc.perform(get("/api/contents/1/summarize").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void staleIfNoneMatchReturnsFreshBody() throws Exception {
+        mockMvc.perform(get("/api/contents/1/summarize").header(HttpHeaders.IF_NONE_MATCH, "\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summaryText").value("전체 요약"));
+    }
+}
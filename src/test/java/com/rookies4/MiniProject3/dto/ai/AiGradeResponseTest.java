@@ -0,0 +1,58 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiGradeResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void scoreFallsBackToSumOfResults() throws IOException {
+        AiGradeResponse response = objectMapper.readValue("""
+                {"results": [
+                  {"question": "q1", "is_correct": true, "score": 10},
+                  {"question": "q2", "is_correct": false, "score": 0},
+                  null,
+                  {"question": "q3", "is_correct": true, "score": 10}
+                ]}""", AiGradeResponse.class);
+
+        assertThat(response.getFinalTotalScore()).isNull();
+        assertThat(response.finalScore()).isEqualTo(20);
+        assertThat(response.correctCount()).isEqualTo(2);
+        assertThat(response.totalQuestions()).isEqualTo(3);
+    }
+
+    @Test
+    void explicitFinalScoreWins() throws IOException {
+        AiGradeResponse response = objectMapper.readValue(
+                "{\"final_total_score\": 67, \"results\": [{\"is_correct\": true, \"score\": 10}]}", AiGradeResponse.class);
+
+        assertThat(response.finalScore()).isEqualTo(67);
+    }
+
+    @Test
+    void resultFieldsArePassedThrough() throws IOException {
+        AiGradeResult result = objectMapper.readValue(
+                "{\"question\": \"q\", \"user_answer\": \"A\", \"is_correct\": false, \"score\": 0, \"feedback\": {\"hint\": \"h\"}}",
+                AiGradeResult.class);
+
+        String json = objectMapper.writeValueAsString(result);
+
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree(
+                "{\"is_correct\": false, \"score\": 0, \"question\": \"q\", \"user_answer\": \"A\", \"feedback\": {\"hint\": \"h\"}}"));
+    }
+
+    @Test
+    void uploadVectorPathFallsBackToCreatedVectors() throws IOException {
+        AiUploadResponse response = objectMapper.readValue(
+                "{\"created_vectors_for\": [\"/vectors/7\", \"/vectors/8\"]}", AiUploadResponse.class);
+
+        assertThat(response.totalChaptersOrZero()).isZero();
+        assertThat(response.resolvedVectorPath()).isEqualTo("/vectors/7");
+    }
+}
@@ -0,0 +1,71 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 생성 응답 파싱 비용 비교 ({"questions": [...]}, 문항마다 건너뛸 부가 필드 포함)
+ * - mapTree  : 변경 전 방식 (Map/List 트리로 역직렬화 후 필드 추출)
+ * - streaming: AiQuizPayloadDeserializer (토큰 스트리밍, 필요한 필드만 채움)
+ *
+ * 실행: mvn -B -Pjmh test-compile exec:exec -Djmh.include=AiQuizPayloadBenchmark -Djmh.args="-prof gc"
+ *   (-prof gc → 호출당 할당량 gc.alloc.rate.norm [B/op] 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiQuizPayloadBenchmark {
+
+    @Param({"10", "50"})
+    private int questions;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"content_id\": 7, \"questions\": [");
+        for (int i = 0; i < questions; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"question\": \"운영체제에서 교착 상태(deadlock)가 발생하기 위한 조건 ").append(i).append("은?\",")
+                    .append("\"options\": [\"상호 배제\", \"점유와 대기\", \"비선점\", \"환형 대기\"],")
+                    .append("\"correct_answer\": \"상호 배제\",")
+                    .append("\"explanation\": \"네 가지 조건이 모두 성립해야 교착 상태가 발생한다. 하나라도 깨면 예방할 수 있다.\",")
+                    .append("\"metadata\": {\"source_chunks\": [\"chunk-1\", \"chunk-2\", \"chunk-3\"], \"score\": 0.87}}");
+        }
+        json.append("]}");
+        payload = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<AiQuizItem> mapTree() throws IOException {
+        Map<String, Object> root = objectMapper.readValue(payload, Map.class);
+        List<Map<String, Object>> items = (List<Map<String, Object>>) root.get("questions");
+        List<AiQuizItem> result = new ArrayList<>(items.size());
+        for (Map<String, Object> map : items) {
+            AiQuizItem item = new AiQuizItem();
+            item.setQuestion((String) map.get("question"));
+            item.setOptions((List<String>) map.get("options"));
+            item.setCorrectAnswer((String) map.get("correct_answer"));
+            item.setExplanation((String) map.get("explanation"));
+            result.add(item);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<AiQuizItem> streaming() throws IOException {
+        return objectMapper.readValue(payload, AiQuizPayload.class).getQuestions();
+    }
+}
@@ -0,0 +1,77 @@
+package com.rookies4.MiniProject3.dto.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiQuizPayloadDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AiQuizPayload read(String fixture) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/ai/" + fixture)) {
+            assertThat(in).as("fixture %s", fixture).isNotNull();
+            return objectMapper.readValue(in, AiQuizPayload.class);
+        }
+    }
+
+    @Test
+    void topLevelArray() throws IOException {
+        List<AiQuizItem> items = read("quiz-array.json").getQuestions();
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).getQuestion()).isEqualTo("TCP의 연결 설정 과정은?");
+        assertThat(items.get(0).getOptions()).containsExactly("1-way", "2-way", "3-way handshake", "4-way handshake");
+        assertThat(items.get(0).getCorrectAnswer()).isEqualTo("3-way handshake");
+        assertThat(items.get(0).getExplanation()).isEqualTo("SYN → SYN/ACK → ACK");
+
+        // 숫자 스칼라 → 문자열, null 유지
+        assertThat(items.get(1).getQuestion()).isNull();
+        assertThat(items.get(1).getQuestionText()).isEqualTo("HTTP 기본 포트는?");
+        assertThat(items.get(1).getOptions()).containsExactly("80", "443", "8080", "21");
+        assertThat(items.get(1).getCorrectAnswer()).isEqualTo("80");
+        assertThat(items.get(1).getExplanation()).isNull();
+    }
+
+    @Test
+    void questionsWrapperWithObjectOptions() throws IOException {
+        List<AiQuizItem> items = read("quiz-questions-object.json").getQuestions();
+
+        // 객체가 아닌 원소와 모르는 필드(중첩 포함)는 건너뜀
+        assertThat(items).hasSize(2);
+
+        AiQuizItem first = items.get(0);
+        assertThat(first.getQuizText()).isEqualTo("OSI 7계층 중 라우팅을 담당하는 계층은?");
+        assertThat(first.getOptions()).containsExactly("물리 계층", "데이터링크 계층", "네트워크 계층", "전송 계층");
+        assertThat(first.getCorrectAnswer()).isEqualTo("C");
+        assertThat(first.getExplanation()).isEqualTo("라우터는 3계층(네트워크) 장비");
+
+        // 불리언 → 문자열, null/중첩 배열 보기는 제외
+        AiQuizItem second = items.get(1);
+        assertThat(second.getQuestion()).isEqualTo("UDP는 연결 지향 프로토콜이다.");
+        assertThat(second.getOptions()).containsExactly("true", "false");
+        assertThat(second.getCorrectAnswer()).isEqualTo("false");
+    }
+
+    @Test
+    void objectWithoutQuestionsIsEmpty() throws IOException {
+        AiQuizPayload payload = objectMapper.readValue("{\"detail\": \"error\", \"questions\": null}", AiQuizPayload.class);
+        assertThat(payload.getQuestions()).isEmpty();
+    }
+
+    @Test
+    void scalarOptionsAreIgnored() throws IOException {
+        AiQuizPayload payload = objectMapper.readValue(
+                "[{\"question\": \"q\", \"options\": \"A, B\", \"correct_answer\": \"A\"}]", AiQuizPayload.class);
+        assertThat(payload.getQuestions()).singleElement()
+                .satisfies(item -> {
+                    assertThat(item.getOptions()).isNull();
+                    assertThat(item.getCorrectAnswer()).isEqualTo("A");
+                });
+    }
+}
@@ -0,0 +1,89 @@
+package com.rookies4.MiniProject3.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 토큰 처리 비용 비교
+ * - legacyDoubleParse       : 변경 전 경로 (요청마다 parser 2회 생성 + 서명 검증 2회)
+ * - validateThenAuthenticate: validateToken + getAuthentication (공유 parser, 검증 2회)
+ * - authenticateMiss        : authenticate, 캐시 미스 (서로 다른 토큰 순환, 캐시보다 큰 풀 → 1회 파싱 + 캐시 저장/제거)
+ * - authenticateCached      : authenticate, claims 캐시 적중
+ *
+ * 실행: mvn -B -Pjmh test-compile exec:exec -Djmh.include=JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "V29vYVRoZWNoQ291cnNlSVNULVNwcmluZ0Jvb3QtUHJhY3RpY2U=";
+    private static final int MISS_POOL_SIZE = 1 << 16;  // 미스 측정용 토큰 수 (캐시 크기의 64배)
+    private static final int MISS_CACHE_SIZE = 1 << 10;
+
+    private SecretKey key;
+    private String token;
+    private String[] missTokens;
+    private int missIndex;
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider missProvider;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = token(42L);
+        missTokens = new String[MISS_POOL_SIZE];
+        for (int i = 0; i < MISS_POOL_SIZE; i++) {
+            missTokens[i] = token(i);
+        }
+
+        cachedProvider = new JwtTokenProvider(SECRET, 10_000, Duration.ofMinutes(30), null, new SimpleMeterRegistry());
+        missProvider = new JwtTokenProvider(SECRET, MISS_CACHE_SIZE, Duration.ofMinutes(30), null, new SimpleMeterRegistry());
+        cachedProvider.authenticate(token);
+    }
+
+    private String token(long userId) {
+        return Jwts.builder()
+                .subject("student" + userId + "@example.com")
+                .claim("auth", "ROLE_USER")
+                .claim("uid", userId)
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public Object legacyDoubleParse() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Authentication validateThenAuthenticate() {
+        return cachedProvider.validateToken(token) ? cachedProvider.getAuthentication(token) : null;
+    }
+
+    @Benchmark
+    public Authentication authenticateMiss() {
+        String next = missTokens[missIndex];
+        missIndex = (missIndex + 1) & (MISS_POOL_SIZE - 1);
+        return missProvider.authenticate(next).orElseThrow();
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return cachedProvider.authenticate(token).orElseThrow();
+    }
+}
@@ -0,0 +1,99 @@
+package com.rookies4.MiniProject3.repository;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.enums.AiJobStatus;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class AiJobRepositoryTest {
+
+    @Autowired
+    private AiJobRepository aiJobRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private AiJob save(AiJobStatus status, LocalDateTime nextRunAt, LocalDateTime lockedAt) {
+        return aiJobRepository.save(AiJob.builder()
+                .type(AiJobType.VECTORIZE)
+                .contentId(7L)
+                .status(status)
+                .attempts(status == AiJobStatus.PENDING ? 0 : 1)
+                .maxAttempts(5)
+                .nextRunAt(nextRunAt)
+                .lockedBy(lockedAt != null ? "worker-1" : null)
+                .lockedAt(lockedAt)
+                .build());
+    }
+
+    @Test
+    void expiredLeasesReturnToPending() {
+        LocalDateTime now = LocalDateTime.now();
+        AiJob stale = save(AiJobStatus.RUNNING, now.minusMinutes(30), now.minusMinutes(20));
+        AiJob active = save(AiJobStatus.RUNNING, now.minusMinutes(1), now.minusMinutes(1));
+        AiJob dead = save(AiJobStatus.DEAD, now.minusMinutes(30), null);
+
+        int released = aiJobRepository.releaseExpiredLeases(now.minusMinutes(10), now);
+        entityManager.clear();
+
+        assertThat(released).isEqualTo(1);
+        AiJob recovered = aiJobRepository.findById(stale.getId()).orElseThrow();
+        assertThat(recovered.getStatus()).isEqualTo(AiJobStatus.PENDING);
+        assertThat(recovered.getLockedBy()).isNull();
+        assertThat(recovered.getLockedAt()).isNull();
+        assertThat(recovered.getAttempts()).isEqualTo(1);
+        assertThat(aiJobRepository.findById(active.getId()).orElseThrow().getStatus()).isEqualTo(AiJobStatus.RUNNING);
+        assertThat(aiJobRepository.findById(dead.getId()).orElseThrow().getStatus()).isEqualTo(AiJobStatus.DEAD);
+    }
+
+    @Test
+    void onlyDuePendingJobsAreClaimableInOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        AiJob later = save(AiJobStatus.PENDING, now.minusSeconds(5), null);
+        AiJob earlier = save(AiJobStatus.PENDING, now.minusMinutes(5), null);
+        save(AiJobStatus.PENDING, now.plusMinutes(1), null);     // 백오프 대기 중
+        save(AiJobStatus.RUNNING, now.minusMinutes(5), now);
+        save(AiJobStatus.DEAD, now.minusMinutes(5), null);
+
+        List<AiJob> claimable = aiJobRepository.findClaimable(AiJobStatus.PENDING, now, PageRequest.of(0, 10));
+
+        assertThat(claimable).extracting(AiJob::getId).containsExactly(earlier.getId(), later.getId());
+        assertThat(aiJobRepository.findClaimable(AiJobStatus.PENDING, now, PageRequest.of(0, 1))).hasSize(1);
+    }
+
+    @Test
+    void onlyTheLeaseHolderSeesItsRunningJob() {
+        LocalDateTime now = LocalDateTime.now();
+        AiJob job = save(AiJobStatus.RUNNING, now.minusMinutes(1), now);     // worker-1 점유
+        AiJob pending = save(AiJobStatus.PENDING, now.minusMinutes(1), null);
+
+        assertThat(aiJobRepository.findOwned(job.getId(), "worker-1")).isPresent();
+        assertThat(aiJobRepository.findOwned(job.getId(), "worker-2")).isEmpty();
+        assertThat(aiJobRepository.findOwned(pending.getId(), "worker-1")).isEmpty();
+    }
+
+    @Test
+    void heartbeatExtendsOnlyOwnRunningLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        AiJob mine = save(AiJobStatus.RUNNING, now.minusMinutes(20), now.minusMinutes(9));
+        AiJob released = save(AiJobStatus.PENDING, now.minusMinutes(20), null);
+
+        int renewed = aiJobRepository.renewLeases(List.of(mine.getId(), released.getId()), "worker-1", now);
+        int foreign = aiJobRepository.renewLeases(List.of(mine.getId()), "worker-2", now.plusMinutes(1));
+        entityManager.clear();
+
+        assertThat(renewed).isEqualTo(1);
+        assertThat(foreign).isZero();
+        // 연장된 lease는 10분 기준 복구 대상이 아님
+        assertThat(aiJobRepository.releaseExpiredLeases(now.minusMinutes(5), now)).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package com.rookies4.MiniProject3.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiCallPolicyTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // 초당 자동 적립 없음 → 잔액 변화가 적립/차감만 반영
+    private final RetryBudget budget = new RetryBudget(0.5, 0, 20, registry);
+
+    private AiCallPolicy policy(boolean hedgeEnabled) {
+        return new AiCallPolicy(budget, registry, 2, Duration.ofMillis(1), Duration.ofMillis(5), 0.0,
+                hedgeEnabled, Duration.ofMillis(20), Duration.ofMillis(1), Duration.ofSeconds(1), 0.9);
+    }
+
+    private static WebClientRequestException requestFailure(Throwable cause) {
+        return new WebClientRequestException(cause, HttpMethod.POST, URI.create("http://ai/summarize"), new HttpHeaders());
+    }
+
+    private static int subscriptions(AiCallPolicy policy, Throwable failure) {
+        AtomicInteger count = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            count.incrementAndGet();
+            return Mono.error(failure);
+        });
+        assertThatThrownBy(() -> call.transform(policy.<String>retryOnConnectionError("test")).block())
+                .isSameAs(failure);
+        return count.get();
+    }
+
+    @Test
+    void connectionErrorsAreRetried() {
+        AiCallPolicy policy = policy(false);
+
+        assertThat(subscriptions(policy, requestFailure(new ConnectException("Connection refused")))).isEqualTo(3);
+        assertThat(subscriptions(policy, requestFailure(new ConnectTimeoutException("connect timed out")))).isEqualTo(3);
+        assertThat(subscriptions(policy, requestFailure(new UnknownHostException("ai")))).isEqualTo(3);
+    }
+
+    @Test
+    void responseTimeoutIsNotRetried() {
+        assertThat(subscriptions(policy(false), requestFailure(ReadTimeoutException.INSTANCE))).isEqualTo(1);
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        // 요청 전송 이후 끊김 (FastAPI가 이미 처리 중일 수 있음)
+        assertThat(subscriptions(policy(false), requestFailure(PrematureCloseException.TEST_EXCEPTION))).isEqualTo(1);
+        assertThat(AiCallPolicy.isConnectionError(new IllegalStateException(new ConnectException()))).isFalse();
+    }
+
+    @Test
+    void hedgedDuplicateDoesNotEarnRetryCredit() {
+        AiCallPolicy policy = policy(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = policy.hedge("test", () -> Mono.defer(() -> calls.incrementAndGet() == 1
+                        ? Mono.delay(Duration.ofMillis(500)).thenReturn("primary")
+                        : Mono.just("hedged"))
+                .transform(policy.<String>retryOnConnectionError("test")))
+                .block();
+
+        assertThat(result).isEqualTo("hedged");
+        assertThat(calls).hasValue(2);
+        // 원 요청 적립(+0.5, 상한 20) 후 헤지 1회 차감 → 19.0 (헤지가 적립했다면 19.5)
+        assertThat(budget.balance()).isEqualTo(19.0);
+    }
+}
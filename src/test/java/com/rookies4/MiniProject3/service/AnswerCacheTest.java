@@ -0,0 +1,57 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerCacheTest {
+
+    private final AnswerCache cache = new AnswerCache(100, Duration.ofHours(1), false, 10, new SimpleMeterRegistry());
+
+    @Test
+    void normalizedQuestionHits() {
+        cache.put(1L, "머신러닝이란 무엇인가요?", false, "답변", cache.generation(1L));
+
+        assertThat(cache.get(1L, "  머신러닝이란   무엇인가요 ", false)).contains("답변");
+        assertThat(cache.get(1L, "머신러닝이란 무엇인가요?", true)).isEmpty();
+        assertThat(cache.get(2L, "머신러닝이란 무엇인가요?", false)).isEmpty();
+    }
+
+    @Test
+    void vectorPathChangeInvalidatesContent() {
+        cache.put(1L, "질문", false, "이전 답변", cache.generation(1L));
+        cache.put(2L, "질문", false, "다른 콘텐츠", cache.generation(2L));
+
+        cache.onContentUpdated(ContentUpdatedEvent.vectorized(1L, 3, "/vectors/1-v2"));
+
+        assertThat(cache.get(1L, "질문", false)).isEmpty();
+        assertThat(cache.get(2L, "질문", false)).contains("다른 콘텐츠");
+    }
+
+    @Test
+    void answerFromBeforeInvalidationIsDropped() {
+        // FastAPI 호출 시작 → 응답 전에 vectorPath 변경 → 이전 인덱스 답변 도착
+        long generation = cache.generation(1L);
+        cache.invalidate(1L);
+        cache.put(1L, "질문", false, "이전 인덱스 답변", generation);
+
+        assertThat(cache.get(1L, "질문", false)).isEmpty();
+
+        // 무효화 이후 시작한 호출의 답변은 저장
+        cache.put(1L, "질문", false, "새 답변", cache.generation(1L));
+        assertThat(cache.get(1L, "질문", false)).contains("새 답변");
+    }
+
+    @Test
+    void failedStatusDoesNotInvalidate() {
+        cache.put(1L, "질문", false, "답변", cache.generation(1L));
+
+        cache.onContentUpdated(ContentUpdatedEvent.failed(1L));
+
+        assertThat(cache.get(1L, "질문", false)).contains("답변");
+    }
+}
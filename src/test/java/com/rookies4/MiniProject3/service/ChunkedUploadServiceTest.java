@@ -0,0 +1,172 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChunkedUploadServiceTest {
+
+    private static final Long USER = 1L;
+    private static final byte[] DATA = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8); // 20 bytes
+
+    @TempDir
+    Path uploadDir;
+
+    private final ContentService contentService = mock(ContentService.class);
+    private final ProgressService progressService = mock(ProgressService.class);
+    private ChunkedUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageService storage = new FileStorageService(uploadDir.toString(), "");
+        service = new ChunkedUploadService(storage, contentService, progressService,
+                DataSize.ofBytes(100), DataSize.ofBytes(8), Duration.ofHours(1), 2);
+    }
+
+    private String open() {
+        return service.createSession(USER,
+                new ContentDto.UploadSessionRequest("lecture.pdf", "강의", (long) DATA.length)).getUploadId();
+    }
+
+    private ContentDto.UploadSessionResponse write(String uploadId, int from, int to) {
+        return service.writeChunk(uploadId, USER, from, to - from,
+                new ByteArrayInputStream(Arrays.copyOfRange(DATA, from, to)));
+    }
+
+    private static ErrorCode codeOf(Throwable e) {
+        return ((CustomException) e).getErrorCode();
+    }
+
+    @Test
+    void outOfOrderAndOverlappingChunksMerge() {
+        String uploadId = open();
+
+        write(uploadId, 8, 16);
+        ContentDto.UploadSessionResponse status = write(uploadId, 0, 8);
+        assertThat(status.getReceivedRanges()).containsExactly(new long[]{0, 16});
+        assertThat(status.isComplete()).isFalse();
+
+        write(uploadId, 12, 20);   // 재전송 겹침 허용
+        status = service.getStatus(uploadId, USER);
+        assertThat(status.getReceivedBytes()).isEqualTo(20);
+        assertThat(status.isComplete()).isTrue();
+    }
+
+    @Test
+    void chunkPastEndOrLargerThanMaxIsRejected() {
+        String uploadId = open();
+        byte[] nine = new byte[9];
+
+        assertThatThrownBy(() -> service.writeChunk(uploadId, USER, 0, 9, new ByteArrayInputStream(nine)))
+                .satisfies(e -> assertThat(codeOf(e)).isEqualTo(ErrorCode.INVALID_CHUNK_RANGE));
+        assertThatThrownBy(() -> service.writeChunk(uploadId, USER, 16, 8, new ByteArrayInputStream(new byte[8])))
+                .satisfies(e -> assertThat(codeOf(e)).isEqualTo(ErrorCode.INVALID_CHUNK_RANGE));
+        assertThatThrownBy(() -> service.writeChunk(uploadId, USER, -1, 4, new ByteArrayInputStream(new byte[4])))
+                .satisfies(e -> assertThat(codeOf(e)).isEqualTo(ErrorCode.INVALID_CHUNK_RANGE));
+        assertThat(service.getStatus(uploadId, USER).getReceivedBytes()).isZero();
+    }
+
+    @Test
+    void unknownLengthChunkLongerThanRemainingIsRejected() {
+        String uploadId = open();
+
+        // Content-Length 없이 남은 구간(4바이트)보다 긴 바디
+        assertThatThrownBy(() -> service.writeChunk(uploadId, USER, 16, -1, new ByteArrayInputStream(new byte[6])))
+                .satisfies(e -> assertThat(codeOf(e)).isEqualTo(ErrorCode.INVALID_CHUNK_RANGE));
+
+        ContentDto.UploadSessionResponse ok = service.writeChunk(uploadId, USER, 16, -1,
+                new ByteArrayInputStream(Arrays.copyOfRange(DATA, 16, 20)));
+        assertThat(ok.getReceivedRanges()).containsExactly(new long[]{16, 20});
+    }
+
+    @Test
+    void commitBeforeCompleteIsRejected() {
+        String uploadId = open();
+        write(uploadId, 0, 8);
+
+        assertThatThrownBy(() -> service.commit(uploadId, USER))
+                .satisfies(e -> assertThat(codeOf(e)).isEqualTo(ErrorCode.UPLOAD_NOT_COMPLETE));
+    }
+
+    @Test
+    void failedCommitKeepsSessionAndSkipsFinishedStepsOnRetry() throws Exception {
+        String uploadId = open();
+        write(uploadId, 0, 8);
+        write(uploadId, 8, 16);
+        write(uploadId, 16, 20);
+
+        ContentDto.UploadResponse created = new ContentDto.UploadResponse(42L, "강의", "PROCESSING", null, null, "lecture.pdf", null);
+        when(contentService.createFromStoredFile(any(), eq("lecture.pdf"), eq("강의"), eq(USER))).thenReturn(created);
+        when(progressService.createProgressIfNotExists(USER, 42L))
+                .thenThrow(new IllegalStateException("DB 일시 오류"))
+                .thenReturn(null);
+
+        assertThatThrownBy(() -> service.commit(uploadId, USER)).isInstanceOf(IllegalStateException.class);
+        assertThat(service.getStatus(uploadId, USER).isComplete()).isTrue(); // 세션 유지
+
+        assertThat(service.commit(uploadId, USER)).isSameAs(created);
+
+        // Content는 한 번만 생성, 파일은 내용 주소로 한 번만 저장
+        verify(contentService, times(1)).createFromStoredFile(any(), anyString(), anyString(), anyLong());
+        verify(progressService, times(2)).createProgressIfNotExists(USER, 42L);
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files.filter(Files::isRegularFile))
+                    .singleElement()
+                    .satisfies(p -> assertThat(Files.readAllBytes(p)).isEqualTo(DATA));
+        }
+        assertThatThrownBy(() -> service.getStatus(uploadId, USER))
+                .satisfies(e -> assertThat(codeOf(e)).isEqualTo(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+    }
+
+    @Test
+    void sessionsAreScopedToOwner() {
+        String uploadId = open();
+
+        assertThatThrownBy(() -> service.getStatus(uploadId, 2L))
+                .satisfies(e -> assertThat(codeOf(e)).isEqualTo(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+    }
+
+    @Test
+    void openSessionsPerUserAreCapped() {
+        open();
+        open();
+
+        assertThatThrownBy(this::open)
+                .satisfies(e -> assertThat(codeOf(e)).isEqualTo(ErrorCode.TOO_MANY_UPLOAD_SESSIONS));
+    }
+
+    @Test
+    void abortDeletesPartialFile() throws Exception {
+        String uploadId = open();
+        Path partial = uploadDir.resolve(".partial").resolve(uploadId + ".part");
+        assertThat(partial).exists().hasSize(DATA.length);
+
+        service.abort(uploadId, USER);
+
+        assertThat(partial).doesNotExist();
+        open();
+        open(); // 취소한 세션은 상한에 포함되지 않음
+    }
+}
@@ -0,0 +1,66 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContentBatchUploadServiceTest {
+
+    private final ContentService contentService = mock(ContentService.class);
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private ContentBatchUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        service = new ContentBatchUploadService(contentService, mock(ProgressService.class), executor, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private static MultipartFile pdf(String name) {
+        return new MockMultipartFile("files", name, "application/pdf", new byte[]{1});
+    }
+
+    @Test
+    void failuresAreReportedPerFileWithoutInternalDetails() {
+        MultipartFile ok = pdf("ok.pdf");
+        MultipartFile tooLarge = pdf("big.pdf");
+        MultipartFile broken = pdf("broken.pdf");
+        when(contentService.uploadFile(eq(ok), any(), any()))
+                .thenReturn(new ContentDto.UploadResponse(1L, "t", "PROCESSING", null, null, "ok.pdf", null));
+        when(contentService.uploadFile(eq(tooLarge), any(), any()))
+                .thenThrow(new CustomException(ErrorCode.FILE_TOO_LARGE));
+        when(contentService.uploadFile(eq(broken), any(), any()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "could not execute statement [Duplicate entry '/uploads/ab/abcd.pdf' for key 'uk_contents_path']"));
+
+        List<ContentDto.UploadResponse> results = service.uploadAll(List.of(ok, tooLarge, broken), "t", 3L);
+
+        assertThat(results).extracting(ContentDto.UploadResponse::getFileName)
+                .containsExactly("ok.pdf", "big.pdf", "broken.pdf");
+        assertThat(results.get(0).getMessage()).isNull();
+        assertThat(results.get(1).getStatus()).isEqualTo("FAILED");
+        assertThat(results.get(1).getMessage()).isEqualTo(ErrorCode.FILE_TOO_LARGE.getMessage());
+        assertThat(results.get(2).getMessage()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+    }
+}
@@ -0,0 +1,114 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.entity.User;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import com.rookies4.MiniProject3.domain.enums.ContentStatus;
+import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.repository.ContentRepository;
+import com.rookies4.MiniProject3.repository.UserRepository;
+import com.rookies4.MiniProject3.service.job.AiJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentServiceTest {
+
+    private static final String SHA = "a".repeat(64);
+
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private FileStorageService fileStorageService;
+    @Mock
+    private AiJobService aiJobService;
+
+    @InjectMocks
+    private ContentService contentService;
+
+    private final User user = User.builder().id(1L).build();
+    private final FileStorageService.StoredFile stored =
+            new FileStorageService.StoredFile("/uploads/" + SHA + ".pdf", 1024, SHA, true);
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(contentRepository.saveAndFlush(any(Content.class))).thenAnswer(invocation -> {
+            Content content = invocation.getArgument(0);
+            content.setId(99L);
+            return content;
+        });
+    }
+
+    @Test
+    void processedDuplicateReusesVectorsWithoutFastApiJob() {
+        Content source = Content.builder()
+                .id(10L)
+                .filePath("/uploads/" + SHA + ".pdf")
+                .contentHash(SHA)
+                .vectorPath("/vectors/10")
+                .totalChapters(6)
+                .status(ContentStatus.COMPLETED)
+                .build();
+        when(contentRepository.findFirstByContentHashAndStatusOrderByIdAsc(SHA, ContentStatus.COMPLETED))
+                .thenReturn(Optional.of(source));
+
+        ContentDto.UploadResponse response = contentService.createFromStoredFile(stored, "복사본.pdf", "복습", 1L);
+
+        ArgumentCaptor<Content> saved = ArgumentCaptor.forClass(Content.class);
+        verify(contentRepository).saveAndFlush(saved.capture());
+        Content copy = saved.getValue();
+        assertThat(copy.getUser()).isSameAs(user);
+        assertThat(copy.getTitle()).isEqualTo("복습");
+        assertThat(copy.getFileName()).isEqualTo("복사본.pdf");
+        assertThat(copy.getFilePath()).isEqualTo(source.getFilePath());
+        assertThat(copy.getVectorPath()).isEqualTo("/vectors/10");
+        assertThat(copy.getTotalChapters()).isEqualTo(6);
+        assertThat(copy.getStatus()).isEqualTo(ContentStatus.COMPLETED);
+        verify(aiJobService, never()).enqueue(any(), any(), any());
+
+        assertThat(response.getContentId()).isEqualTo(99L);
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(response.getVectorPath()).isEqualTo("/vectors/10");
+    }
+
+    @Test
+    void newContentIsQueuedForVectorization() {
+        when(contentRepository.findFirstByContentHashAndStatusOrderByIdAsc(SHA, ContentStatus.COMPLETED))
+                .thenReturn(Optional.empty());
+
+        ContentDto.UploadResponse response = contentService.createFromStoredFile(stored, "week1.pdf", "1주차", 1L);
+
+        assertThat(response.getStatus()).isEqualTo("PROCESSING");
+        assertThat(response.getVectorPath()).isNull();
+        verify(aiJobService).enqueue(AiJobType.VECTORIZE, 99L, Map.of("filePath", stored.getPath()));
+    }
+
+    @Test
+    void completedSourceWithoutVectorsIsNotReused() {
+        Content broken = Content.builder().id(10L).contentHash(SHA).status(ContentStatus.COMPLETED).build();
+        when(contentRepository.findFirstByContentHashAndStatusOrderByIdAsc(SHA, ContentStatus.COMPLETED))
+                .thenReturn(Optional.of(broken));
+
+        ContentDto.UploadResponse response = contentService.createFromStoredFile(stored, "week1.pdf", "1주차", 1L);
+
+        assertThat(response.getStatus()).isEqualTo("PROCESSING");
+        verify(aiJobService).enqueue(AiJobType.VECTORIZE, 99L, Map.of("filePath", stored.getPath()));
+    }
+}
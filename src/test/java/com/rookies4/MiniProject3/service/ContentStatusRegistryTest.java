@@ -0,0 +1,68 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.enums.ContentStatus;
+import com.rookies4.MiniProject3.dto.ContentDto;
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.repository.ContentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContentStatusRegistryTest {
+
+    private final ContentRepository contentRepository = mock(ContentRepository.class);
+    private final ContentStatusRegistry registry = new ContentStatusRegistry(contentRepository, Duration.ofMinutes(30));
+
+    private static Content content(ContentStatus status, Integer totalChapters) {
+        return Content.builder().id(7L).status(status).totalChapters(totalChapters).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ContentDto.StatusEvent currentState() {
+        Map<Long, ?> watches = (Map<Long, ?>) ReflectionTestUtils.getField(registry, "watches");
+        return ReflectionTestUtils.invokeMethod(watches.get(7L), "snapshot", "STATUS", null);
+    }
+
+    @Test
+    void completionCommittedDuringSnapshotReadIsNotLost() {
+        // DB 조회 도중 벡터화 완료 이벤트 발생 → 조회 결과는 이전 값(PROCESSING)
+        when(contentRepository.findById(7L)).thenAnswer(invocation -> {
+            registry.onContentUpdated(ContentUpdatedEvent.vectorized(7L, 5, "/vectors/7"));
+            return Optional.of(content(ContentStatus.PROCESSING, null));
+        });
+
+        registry.subscribe(7L);
+
+        assertThat(currentState().getStatus()).isEqualTo("COMPLETED");
+        assertThat(currentState().getTotalChapters()).isEqualTo(5);
+    }
+
+    @Test
+    void snapshotSeedsStateWhenNoEventArrived() {
+        when(contentRepository.findById(7L)).thenReturn(Optional.of(content(ContentStatus.PROCESSING, 3)));
+
+        registry.subscribe(7L);
+        registry.onContentUpdated(ContentUpdatedEvent.failed(7L));
+
+        assertThat(currentState().getStatus()).isEqualTo("FAILED");
+        assertThat(currentState().getTotalChapters()).isEqualTo(3);
+    }
+
+    @Test
+    void unknownContentLeavesNoWatchBehind() {
+        when(contentRepository.findById(7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> registry.subscribe(7L)).isInstanceOf(CustomException.class);
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(registry, "watches")).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.rookies4.MiniProject3.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileStorageServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FileStorageService(uploadDir.toString(), "");
+    }
+
+    private static MockMultipartFile pdf(String name, String body) {
+        return new MockMultipartFile("files", name, "application/pdf", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long storedFileCount() throws Exception {
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void identicalContentIsStoredOnce() throws Exception {
+        FileStorageService.StoredFile first = storage.storeFile(pdf("week1.pdf", "%PDF-1.7 lecture"));
+        FileStorageService.StoredFile second = storage.storeFile(pdf("week1-copy.pdf", "%PDF-1.7 lecture"));
+
+        assertThat(first.isDeduplicated()).isFalse();
+        assertThat(second.isDeduplicated()).isTrue();
+        assertThat(second.getPath()).isEqualTo(first.getPath());
+        assertThat(second.getSha256()).isEqualTo(first.getSha256()).hasSize(64);
+        assertThat(first.getPath()).endsWith(first.getSha256() + ".pdf");
+        assertThat(first.getSize()).isEqualTo("%PDF-1.7 lecture".length());
+        assertThat(storedFileCount()).isEqualTo(1); // 임시(.part) 파일도 남지 않음
+    }
+
+    @Test
+    void differentContentGetsItsOwnFile() throws Exception {
+        FileStorageService.StoredFile first = storage.storeFile(pdf("a.pdf", "%PDF-1.7 A"));
+        FileStorageService.StoredFile second = storage.storeFile(pdf("a.pdf", "%PDF-1.7 B"));
+
+        assertThat(second.isDeduplicated()).isFalse();
+        assertThat(second.getPath()).isNotEqualTo(first.getPath());
+        assertThat(storedFileCount()).isEqualTo(2);
+    }
+
+    @Test
+    void completedPartialIsPromotedAndDeduplicated() throws Exception {
+        FileStorageService.StoredFile existing = storage.storeFile(pdf("a.pdf", "%PDF-1.7 A"));
+
+        Path partial = storage.preallocate("upload-1", 10);
+        storage.writeChunk(partial, 0, 10, new ByteArrayInputStream("%PDF-1.7 A".getBytes(StandardCharsets.UTF_8)));
+        FileStorageService.StoredFile promoted = storage.storeCompleted(partial, "a.pdf");
+
+        assertThat(promoted.isDeduplicated()).isTrue();
+        assertThat(promoted.getPath()).isEqualTo(existing.getPath());
+        assertThat(partial).doesNotExist();
+    }
+}
@@ -0,0 +1,94 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.dto.QuizResponseDto;
+import com.rookies4.MiniProject3.event.ContentUpdatedEvent;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QuizPoolTest {
+
+    private static final int BATCH_SIZE = 5;
+    private static final List<String> PDF_PATHS = List.of("/uploads/lecture.pdf");
+
+    private final PythonServerClient pythonClient = mock(PythonServerClient.class);
+    // python-* 벌크헤드가 없음 → 항상 유휴로 판단
+    private final QuizPool pool = new QuizPool(pythonClient, BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry(),
+            true, 1, BATCH_SIZE, 10, Duration.ofHours(1));
+
+    private void aiReturns(int count) {
+        when(pythonClient.generateQuizAsync(anyLong(), any(), anyInt(), anyString()))
+                .thenReturn(Mono.just(quizzes(count)));
+    }
+
+    @Test
+    void firstRequestMissesThenPoolIsFilled() {
+        aiReturns(BATCH_SIZE);
+
+        assertThat(pool.claim(1L, "easy", 3, PDF_PATHS)).isEmpty();
+        pool.refill();
+
+        assertThat(pool.claim(1L, "EASY", 3, PDF_PATHS))
+                .hasValueSatisfying(batch -> assertThat(batch).extracting(QuizResponseDto::getQuestion)
+                        .containsExactly("q0", "q1", "q2"));
+    }
+
+    @Test
+    void shortBatchIsNotServedForLargerRequest() {
+        aiReturns(3);
+        pool.claim(1L, "EASY", BATCH_SIZE, PDF_PATHS);
+        pool.refill();
+
+        // 3문항 세트로 5문항 요청을 채울 수 없음 → 미스, 세트는 풀에 남음
+        assertThat(pool.claim(1L, "EASY", BATCH_SIZE, PDF_PATHS)).isEmpty();
+        assertThat(pool.claim(1L, "EASY", 3, PDF_PATHS)).hasValueSatisfying(batch -> assertThat(batch).hasSize(3));
+    }
+
+    @Test
+    void requestLargerThanBatchSizeMisses() {
+        aiReturns(BATCH_SIZE);
+        pool.claim(1L, "EASY", 1, PDF_PATHS);
+        pool.refill();
+
+        assertThat(pool.claim(1L, "EASY", BATCH_SIZE + 1, PDF_PATHS)).isEmpty();
+        assertThat(pool.claim(1L, "EASY", BATCH_SIZE, PDF_PATHS)).isPresent();
+    }
+
+    @Test
+    void vectorPathChangeDiscardsPregeneratedSets() {
+        aiReturns(BATCH_SIZE);
+        pool.claim(1L, "EASY", 3, PDF_PATHS);
+        pool.refill();
+
+        pool.onContentUpdated(ContentUpdatedEvent.vectorized(1L, 4, "/vectors/1-v2"));
+
+        assertThat(pool.claim(1L, "EASY", 3, PDF_PATHS)).isEmpty();
+    }
+
+    @Test
+    void disabledPoolNeverServes() {
+        QuizPool disabled = new QuizPool(pythonClient, BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry(),
+                false, 1, BATCH_SIZE, 10, Duration.ofHours(1));
+
+        assertThat(disabled.claim(1L, "EASY", 3, PDF_PATHS)).isEmpty();
+    }
+
+    private static List<QuizResponseDto> quizzes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> QuizResponseDto.builder().question("q" + i).build())
+                .toList();
+    }
+}
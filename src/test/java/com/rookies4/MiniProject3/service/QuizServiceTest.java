@@ -0,0 +1,83 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.entity.Quiz;
+import com.rookies4.MiniProject3.dto.QuizResponseDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import com.rookies4.MiniProject3.repository.ContentRepository;
+import com.rookies4.MiniProject3.repository.QuizAttemptRepository;
+import com.rookies4.MiniProject3.repository.QuizRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuizServiceTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+    @Mock
+    private QuizAttemptRepository quizAttemptRepository;
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private QuizService quizService;
+
+    private final Content content = Content.builder().id(7L).build();
+
+    private static QuizResponseDto dto(String question) {
+        QuizResponseDto dto = new QuizResponseDto();
+        dto.setQuestion(question);
+        dto.setOptions(List.of("a", "b"));
+        dto.setCorrectAnswer("a");
+        return dto;
+    }
+
+    @Test
+    void batchNumberIsAllocatedUnderContentRowLock() {
+        when(contentRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(content));
+        when(quizRepository.findTopByContentOrderByQuizBatchDesc(content))
+                .thenReturn(Optional.of(Quiz.builder().quizBatch(3).build()));
+        when(quizRepository.findTopByContentOrderByQuizIdDesc(content))
+                .thenReturn(Optional.of(Quiz.builder().quizId(10).build()));
+        when(quizRepository.save(any(Quiz.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Quiz> saved = quizService.saveGeneratedQuizSet(content, List.of(dto("q1"), dto("q2")));
+
+        InOrder order = inOrder(contentRepository, quizRepository);
+        order.verify(contentRepository).findByIdForUpdate(7L);
+        order.verify(quizRepository).findTopByContentOrderByQuizBatchDesc(content);
+        assertThat(saved).extracting(Quiz::getQuizBatch).containsOnly(4);
+        assertThat(saved).extracting(Quiz::getQuizId).containsExactly(11, 12);
+        assertThat(saved.get(0).getOptions()).isEqualTo("[\"a\",\"b\"]");
+    }
+
+    @Test
+    void missingContentIsRejectedBeforeAnyWrite() {
+        when(contentRepository.findByIdForUpdate(7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> quizService.saveGeneratedQuizSet(content, List.of(dto("q1"))))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.CONTENT_NOT_FOUND);
+        verify(quizRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,59 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.dto.SummaryDto;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SummaryCacheTest {
+
+    private final SummaryCache cache = new SummaryCache(100, Duration.ofHours(1), new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SummaryDto.Cached load(Long contentId, String text) {
+        return cache.get(contentId, id -> {
+            loads.incrementAndGet();
+            return new SummaryDto.Response(0, text);
+        });
+    }
+
+    @Test
+    void readThroughLoadsOnce() {
+        SummaryDto.Cached first = load(1L, "요약");
+        SummaryDto.Cached second = load(1L, "다른 값");
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.getEtag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void evictReloadsAndEtagFollowsContent() {
+        String etag = load(1L, "요약").getEtag();
+
+        cache.evict(1L);
+        SummaryDto.Cached same = load(1L, "요약");
+        cache.evict(1L);
+        SummaryDto.Cached changed = load(1L, "새 요약");
+
+        assertThat(loads).hasValue(3);
+        assertThat(same.getEtag()).isEqualTo(etag);          // 내용이 같으면 ETag 유지 → 클라이언트 304 유지
+        assertThat(changed.getEtag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void loaderFailureIsNotCached() {
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new CustomException(ErrorCode.CONTENT_NOT_FOUND);
+        })).isInstanceOf(CustomException.class);
+
+        assertThat(load(1L, "요약").getBody().getSummaryText()).isEqualTo("요약");
+    }
+}
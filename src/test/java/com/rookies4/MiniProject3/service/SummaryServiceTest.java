@@ -0,0 +1,161 @@
+package com.rookies4.MiniProject3.service;
+
+import com.rookies4.MiniProject3.domain.entity.Content;
+import com.rookies4.MiniProject3.domain.entity.Summary;
+import com.rookies4.MiniProject3.exception.CustomException;
+import com.rookies4.MiniProject3.repository.SummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryServiceTest {
+
+    @Mock
+    private SummaryRepository summaryRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private SummaryCache summaryCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private SummaryService summaryService;
+
+    private final Content content = Content.builder().id(7L).build();
+
+    @Test
+    void fullSummaryInsertsChapterZero() {
+        when(summaryRepository.findAllByContentIdAndChapterOrderByIdAsc(7L, 0)).thenReturn(List.of());
+
+        summaryService.saveFullSummary(content, "{\"content_id\": 7, \"summaryText\": \"전체 요약\"}");
+
+        ArgumentCaptor<Summary> saved = ArgumentCaptor.forClass(Summary.class);
+        verify(summaryRepository).save(saved.capture());
+        assertThat(saved.getValue().getChapter()).isZero();
+        assertThat(saved.getValue().getSummaryText()).isEqualTo("전체 요약");
+        assertThat(saved.getValue().getKeySentences()).isEqualTo("[]");
+        verify(summaryCache).evict(7L);
+    }
+
+    @Test
+    void regeneratingFullSummaryUpdatesExistingRow() {
+        Summary existing = summary(1L, 0, "이전 요약");
+        when(summaryRepository.findAllByContentIdAndChapterOrderByIdAsc(7L, 0)).thenReturn(List.of(existing));
+
+        summaryService.saveFullSummary(content, "{\"summaryText\": \"새 요약\"}");
+
+        assertThat(existing.getSummaryText()).isEqualTo("새 요약");
+        verify(summaryRepository, never()).save(any());
+        verify(summaryRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void duplicateRowsAreCollapsedToOldest() {
+        Summary oldest = summary(1L, 0, "a");
+        Summary dup1 = summary(2L, 0, "b");
+        Summary dup2 = summary(3L, 0, "c");
+        when(summaryRepository.findAllByContentIdAndChapterOrderByIdAsc(7L, 0))
+                .thenReturn(new ArrayList<>(List.of(oldest, dup1, dup2)));
+
+        summaryService.saveFullSummary(content, "{\"summaryText\": \"새 요약\"}");
+
+        assertThat(oldest.getSummaryText()).isEqualTo("새 요약");
+        verify(summaryRepository).deleteAll(List.of(dup1, dup2));
+    }
+
+    @Test
+    void concurrentInsertFallsBackToUpdatingTheWinnersRow() {
+        Summary winner = summary(1L, 0, "다른 요청이 먼저 저장");
+        // 조회 시점엔 행이 없었지만 insert 직전에 다른 인스턴스/작업이 먼저 저장
+        when(summaryRepository.findAllByContentIdAndChapterOrderByIdAsc(7L, 0))
+                .thenReturn(List.of())
+                .thenReturn(List.of(winner));
+        when(summaryRepository.save(any(Summary.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_summaries_content_chapter'"));
+
+        summaryService.saveFullSummary(content, "{\"summaryText\": \"새 요약\"}");
+
+        assertThat(winner.getSummaryText()).isEqualTo("새 요약");
+        verify(summaryRepository, times(1)).save(any());
+        // 충돌 난 insert와 재시도 update는 각각 별도 트랜잭션
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+        verify(summaryCache).evict(7L);
+    }
+
+    @Test
+    void missingSummaryTextIsRejected() {
+        assertThatThrownBy(() -> summaryService.saveFullSummary(content, "{\"detail\": \"error\"}"))
+                .isInstanceOf(CustomException.class);
+        verify(summaryRepository, never()).save(any());
+        verify(summaryCache, never()).evict(anyLong());
+    }
+
+    @Test
+    void chapterSectionsAreMergedPerChapterNumber() {
+        when(summaryRepository.findAllByContentIdAndChapterOrderByIdAsc(eq(7L), any())).thenReturn(List.of());
+
+        int saved = summaryService.saveChapterSummaries(content, """
+                {"summaries": [
+                  {"chapter": "1.1", "summaryText": "첫 절", "key_sentences": ["k1"]},
+                  {"chapter": "1.2", "summaryText": "둘째 절", "key_sentences": "k2"},
+                  {"chapter": "2", "summaryText": "2장"}
+                ]}""");
+
+        assertThat(saved).isEqualTo(2);
+        ArgumentCaptor<Summary> captor = ArgumentCaptor.forClass(Summary.class);
+        verify(summaryRepository, times(2)).save(captor.capture());
+        Summary first = captor.getAllValues().get(0);
+        assertThat(first.getChapter()).isEqualTo(1);
+        assertThat(first.getSummaryText()).isEqualTo("첫 절\n\n둘째 절");
+        assertThat(first.getKeySentences()).isEqualTo("[\"k1\",\"k2\"]");
+        assertThat(captor.getAllValues().get(1).getChapter()).isEqualTo(2);
+    }
+
+    @Test
+    void chapterSummariesNeverTouchFullSummaryRow() {
+        when(summaryRepository.findAllByContentIdAndChapterOrderByIdAsc(eq(7L), any())).thenReturn(List.of());
+
+        int saved = summaryService.saveChapterSummaries(content, """
+                {"summaries": [
+                  {"chapter": "서론", "summaryText": "intro"},
+                  {"chapter": "0", "summaryText": "zero"},
+                  {"chapter": "0.5", "summaryText": "zero-point-five"},
+                  {"chapter": "-1", "summaryText": "negative"},
+                  {"chapter": "3", "summaryText": "3장"}
+                ]}""");
+
+        assertThat(saved).isEqualTo(1);
+        verify(summaryRepository, never()).findAllByContentIdAndChapterOrderByIdAsc(7L, 0);
+        ArgumentCaptor<Summary> captor = ArgumentCaptor.forClass(Summary.class);
+        verify(summaryRepository).save(captor.capture());
+        assertThat(captor.getValue().getChapter()).isEqualTo(3);
+    }
+
+    private static Summary summary(Long id, int chapter, String text) {
+        Summary summary = new Summary(null, chapter, text, "[]");
+        summary.setId(id);
+        return summary;
+    }
+}
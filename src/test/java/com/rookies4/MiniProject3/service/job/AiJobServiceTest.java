@@ -0,0 +1,126 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.enums.AiJobStatus;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import com.rookies4.MiniProject3.repository.AiJobRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiJobServiceTest {
+
+    private final AiJobRepository repository = mock(AiJobRepository.class);
+    private final AiJobService service = new AiJobService(repository, new ObjectMapper(),
+            3, Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+    private AiJob running(int attempts) {
+        AiJob job = AiJob.builder()
+                .id(1L)
+                .type(AiJobType.VECTORIZE)
+                .contentId(7L)
+                .status(AiJobStatus.RUNNING)
+                .attempts(attempts)
+                .maxAttempts(3)
+                .lockedBy("worker-1")
+                .lockedAt(LocalDateTime.now())
+                .build();
+        when(repository.findOwned(1L, "worker-1")).thenReturn(Optional.of(job));
+        return job;
+    }
+
+    @Test
+    void claimMarksJobsRunningAndCountsAttempt() {
+        AiJob job = AiJob.builder().id(1L).status(AiJobStatus.PENDING).attempts(0).maxAttempts(3).build();
+        when(repository.findClaimable(eq(AiJobStatus.PENDING), any(), any())).thenReturn(List.of(job));
+
+        List<AiJob> claimed = service.claim("worker-1", 4);
+
+        assertThat(claimed).containsExactly(job);
+        assertThat(job.getStatus()).isEqualTo(AiJobStatus.RUNNING);
+        assertThat(job.getLockedBy()).isEqualTo("worker-1");
+        assertThat(job.getLockedAt()).isNotNull();
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void failureBeforeMaxAttemptsIsRescheduledWithBackoff() {
+        AiJob job = running(2);
+        LocalDateTime before = LocalDateTime.now();
+
+        boolean dead = service.markFailed(1L, "worker-1", "IllegalStateException: FastAPI 벡터화 실패");
+
+        assertThat(dead).isFalse();
+        assertThat(job.getStatus()).isEqualTo(AiJobStatus.PENDING);
+        assertThat(job.getLockedBy()).isNull();
+        assertThat(job.getLockedAt()).isNull();
+        assertThat(job.getLastError()).contains("FastAPI 벡터화 실패");
+        // 2번째 시도 실패 → 10s * 2 = 20s (±20% 지터)
+        assertThat(job.getNextRunAt()).isBetween(before.plusSeconds(15), LocalDateTime.now().plusSeconds(25));
+    }
+
+    @Test
+    void backoffIsCappedAtMaxBackoff() {
+        AiJobService longRetry = new AiJobService(repository, new ObjectMapper(),
+                10, Duration.ofSeconds(10), Duration.ofSeconds(30));
+        AiJob job = running(6);
+        job.setMaxAttempts(10);
+
+        longRetry.markFailed(1L, "worker-1", "timeout");
+
+        assertThat(job.getNextRunAt()).isBefore(LocalDateTime.now().plusSeconds(37));
+    }
+
+    @Test
+    void failureAtMaxAttemptsIsDead() {
+        AiJob job = running(3);
+
+        boolean dead = service.markFailed(1L, "worker-1", "x".repeat(5000));
+
+        assertThat(dead).isTrue();
+        assertThat(job.getStatus()).isEqualTo(AiJobStatus.DEAD);
+        assertThat(job.getLockedBy()).isNull();
+        assertThat(job.getLastError()).hasSize(2000);
+    }
+
+    @Test
+    void successClearsLeaseAndError() {
+        AiJob job = running(1);
+        job.setLastError("이전 오류");
+
+        assertThat(service.markSucceeded(1L, "worker-1", "{\"batch\":3}")).isTrue();
+
+        assertThat(job.getStatus()).isEqualTo(AiJobStatus.SUCCEEDED);
+        assertThat(job.getResult()).isEqualTo("{\"batch\":3}");
+        assertThat(job.getLastError()).isNull();
+        assertThat(job.getLockedBy()).isNull();
+    }
+
+    @Test
+    void resultOfWorkerThatLostItsLeaseIsIgnored() {
+        // lease 만료 후 다른 워커가 재점유 → 이전 워커 기준으로는 조회되지 않음
+        when(repository.findOwned(1L, "worker-1")).thenReturn(Optional.empty());
+
+        assertThat(service.markSucceeded(1L, "worker-1", "{}")).isFalse();
+        assertThat(service.markFailed(1L, "worker-1", "timeout")).isFalse();
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void renewLeasesSkipsEmptySet() {
+        assertThat(service.renewLeases(List.of(), "worker-1")).isZero();
+        verify(repository, never()).renewLeases(any(), any(), any());
+    }
+}
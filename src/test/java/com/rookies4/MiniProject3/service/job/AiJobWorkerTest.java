@@ -0,0 +1,113 @@
+package com.rookies4.MiniProject3.service.job;
+
+import com.rookies4.MiniProject3.domain.entity.AiJob;
+import com.rookies4.MiniProject3.domain.enums.AiJobStatus;
+import com.rookies4.MiniProject3.domain.enums.AiJobType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiJobWorkerTest {
+
+    private final AiJobService jobService = mock(AiJobService.class);
+    private final ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+    private final AiJobHandler handler = mock(AiJobHandler.class);
+    private final AiJob job = AiJob.builder()
+            .id(1L).type(AiJobType.VECTORIZE).contentId(7L)
+            .status(AiJobStatus.RUNNING).attempts(1).maxAttempts(3)
+            .build();
+
+    private AiJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.type()).thenReturn(AiJobType.VECTORIZE);
+        when(executor.getMaxPoolSize()).thenReturn(2);
+        // 워커 스레드 대신 호출 스레드에서 바로 실행
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(jobService.claim(anyString(), anyInt())).thenReturn(List.of(job));
+        when(jobService.readPayload(job)).thenReturn(Map.of("filePath", "/uploads/a.pdf"));
+
+        worker = new AiJobWorker(jobService, executor, List.of(handler), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void successfulJobIsMarkedSucceeded() throws Exception {
+        when(handler.handle(job, Map.of("filePath", "/uploads/a.pdf"))).thenReturn(Map.of("batch", 2));
+        when(jobService.toJson(Map.of("batch", 2))).thenReturn("{\"batch\":2}");
+
+        worker.poll();
+
+        verify(jobService).markSucceeded(eq(1L), anyString(), eq("{\"batch\":2}"));
+        verify(jobService, never()).markFailed(any(), any(), any());
+    }
+
+    @Test
+    void failedJobIsRetriedWithoutOnDead() throws Exception {
+        when(handler.handle(any(), any())).thenThrow(new IllegalStateException("FastAPI 벡터화 실패"));
+        when(jobService.markFailed(eq(1L), anyString(), anyString())).thenReturn(false);
+
+        worker.poll();
+
+        verify(jobService).markFailed(eq(1L), anyString(), eq("IllegalStateException: FastAPI 벡터화 실패"));
+        verify(handler, never()).onDead(any());
+    }
+
+    @Test
+    void deadJobRunsOnDead() throws Exception {
+        when(handler.handle(any(), any())).thenThrow(new IllegalStateException("boom"));
+        when(jobService.markFailed(eq(1L), anyString(), anyString())).thenReturn(true);
+
+        worker.poll();
+
+        verify(handler).onDead(job);
+    }
+
+    @Test
+    void jobWithoutHandlerFails() {
+        job.setType(AiJobType.SUMMARIZE_FULL);
+
+        worker.poll();
+
+        verify(jobService).markFailed(eq(1L), anyString(), startsWith("IllegalStateException: handler not found"));
+    }
+
+    @Test
+    void heartbeatRenewsLeaseOnlyWhileJobRuns() throws Exception {
+        when(handler.handle(any(), any())).thenAnswer(invocation -> {
+            worker.heartbeat();
+            return Map.of();
+        });
+
+        worker.poll();
+        worker.heartbeat();
+
+        // 실행 중 1회만 (완료 후에는 연장 대상 없음)
+        verify(jobService).renewLeases(eq(List.of(1L)), anyString());
+    }
+
+    @Test
+    void startupReleasesExpiredLeases() {
+        worker.recoverOnStartup();
+
+        verify(jobService).releaseExpiredLeases(Duration.ofMinutes(10));
+    }
+}